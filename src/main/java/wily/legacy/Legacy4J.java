@@ -54,7 +54,6 @@ import java.io.InputStream;
 import java.util.*;
 import java.util.List;
 import java.util.function.*;
-import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -116,11 +115,13 @@ public class Legacy4J {
             r.register(false, ClientAdvancementsPayload.ID);
             r.register(false, ClientAnimalInLoveSyncPayload.ID);
             r.register(false, ClientEffectActivationPayload.ID);
+            r.register(false, ClientExplosionDebrisPayload.ID);
             r.register(true, ClientMerchantTradingPayload.ID_C2S);
             r.register(false, ClientMerchantTradingPayload.ID_S2C);
             r.register(true, PlayerInfoSync.ID);
             r.register(true, PlayerInfoSync.All.ID_C2S);
             r.register(false, PlayerInfoSync.All.ID_S2C);
+            r.register(false, PlayerInfoSync.Delta.ID_S2C);
             r.register(true, ServerMenuCraftPayload.ID);
             r.register(true, ServerOpenClientMenuPayload.ID);
             r.register(true, ServerPlayerMissHitPayload.ID);
@@ -129,6 +130,7 @@ public class Legacy4J {
             r.register(false, TopMessage.Payload.ID);
             r.register(false,S2CDisplayTextPayload.ID);
             r.register(false,S2CPlaySoundPayload.ID);
+            r.register(false,S2CMinigameBundlePayload.ID);
         });
         ArmorStandPose.init();
         FactoryEvent.setItemComponent(Items.CAKE, DataComponents.MAX_STACK_SIZE, 64);
@@ -202,9 +204,8 @@ public class Legacy4J {
                 }
         }
         ((LegacyPlayerInfo) p).setIdentifierIndex(pos);
-        CommonNetwork.sendToPlayers(server.getPlayerList().getPlayers().stream().filter(sp -> sp != p).collect(Collectors.toSet()), new PlayerInfoSync.All(Map.of(p.getUUID(), (LegacyPlayerInfo) p), Collections.emptyMap(), server.getDefaultGameType(), PlayerInfoSync.All.ID_S2C));
-
         CommonNetwork.sendToPlayer(p, PlayerInfoSync.All.fromPlayerList(server), true);
+        PlayerInfoTracker.sentAll(p, server);
         playerInitialPayloads.forEach(payload -> CommonNetwork.sendToPlayer(p, payload, true));
 
         if (!FactoryAPIPlatform.getEntityServer(p).isDedicatedServer()) Legacy4JClient.serverPlayerJoin(p);
@@ -3,6 +3,8 @@ package wily.legacy;
 import com.mojang.blaze3d.platform.InputConstants;
 import com.mojang.blaze3d.vertex.*;
 import com.mojang.serialization.DataResult;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.SharedConstants;
 import net.minecraft.client.GraphicsStatus;
 import net.minecraft.client.KeyMapping;
@@ -49,6 +51,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.packs.PackType;
 import net.minecraft.server.packs.repository.Pack;
+import net.minecraft.stats.Stat;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.item.BlockItem;
@@ -103,6 +106,7 @@ import wily.legacy.init.LegacyRegistries;
 import wily.legacy.init.LegacyUIElementTypes;
 import wily.legacy.inventory.LegacyPistonMovingBlockEntity;
 import wily.legacy.minigame.Minigame;
+import wily.legacy.minigame.MinigameWorldLoader;
 import wily.legacy.minigame.MinigamesController;
 import wily.legacy.network.ServerOpenClientMenuPayload;
 import wily.legacy.entity.LegacyPlayerInfo;
@@ -140,7 +144,7 @@ public class Legacy4JClient {
     public static final MapIdValueManager<OptionsPreset, ListMap<ResourceLocation, OptionsPreset>> optionPresetsManager = MapIdValueManager.createListMap(Legacy4J.createModLocation("option_presets"), OptionsPreset.CODEC);
     public static final MapIdValueManager<ControlType, ListMap<ResourceLocation, ControlType>> controlTypesManager = MapIdValueManager.createListMap(Legacy4J.createModLocation("control_types"), ControlType.CODEC);
     public static final ControllerManager controllerManager = new ControllerManager();
-    public static final Map<Block, ResourceLocation> fastLeavesModels = new HashMap<>();
+    public static final Map<Block, ResourceLocation> fastLeavesModels = new Reference2ObjectOpenHashMap<>();
     public static final FactoryConfig.StorageHandler MIXIN_CONFIGS_STORAGE = FactoryConfig.StorageHandler.fromMixin(LegacyMixinOptions.CLIENT_MIXIN_STORAGE, false);
     public static final RenderType GHAST_SHOOTING_GLOW = RenderType.eyes(FactoryAPI.createVanillaLocation("textures/entity/ghast/ghast_shooting_glow.png"));
     public static final RenderType DROWNED_GLOW = RenderType.eyes(FactoryAPI.createVanillaLocation("textures/entity/zombie/drowned_glow.png"));
@@ -188,12 +192,21 @@ public class Legacy4JClient {
     }
 
     public static void updateLegacyPlayerInfos(Map<UUID, LegacyPlayerInfo> map) {
+        updateLegacyPlayerInfos(map, false);
+    }
+
+    public static void updateLegacyPlayerInfos(Map<UUID, LegacyPlayerInfo> map, boolean merge) {
         Minecraft minecraft = Minecraft.getInstance();
         map.forEach((s, i) -> {
-            if (minecraft.getConnection() != null && minecraft.getConnection().getPlayerInfo(s) instanceof LegacyPlayerInfo info)
-                info.copyFrom(i);
+            if (minecraft.getConnection() != null && minecraft.getConnection().getPlayerInfo(s) instanceof LegacyPlayerInfo info) {
+                if (merge) {
+                    Object2IntMap<Stat<?>> previousStats = info.getStatsMap();
+                    info.mergeFrom(i);
+                    LeaderboardIndex.update(info, previousStats, i.getStatsMap().keySet());
+                } else info.copyFrom(i);
+            }
         });
-        LeaderboardsScreen.refreshStatsBoards(minecraft);
+        if (!merge) LeaderboardsScreen.refreshStatsBoards(minecraft);
         if (minecraft.screen instanceof LeaderboardsScreen s && LeaderboardsScreen.statsBoards.get(s.selectedStatBoard).statsList.isEmpty())
             minecraft.executeIfPossible(() -> s.changeStatBoard(false));
         if (minecraft.player != null) {
@@ -359,6 +372,7 @@ public class Legacy4JClient {
         
         // Initialize minigame controller config for client level to receive syncs
         MinigamesController.initClientConfigForLevel(p.level());
+        MinigameWorldLoader.markLobbyPlayable();
     }
 
     public static void serverPlayerJoin(ServerPlayer player) {
@@ -432,6 +446,7 @@ public class Legacy4JClient {
             if (FactoryAPI.isModLoaded("iris")) IrisCompat.init();
             //?}
             LegacyGuiElements.setup(m);
+            BoundedCache.registerDebugEntry();
         });
 
         FactoryAPIClient.registerBlockColor(registry -> {
@@ -568,20 +583,30 @@ public class Legacy4JClient {
     }
 
     public static BlockStateModel getFastLeavesModelReplacement(BlockGetter blockGetter, BlockPos pos, BlockState blockState, /*? if <1.21.5 {*//*BakedModel*//*?} else {*/BlockStateModel/*?}*/ model) {
-        boolean fastGraphics = Minecraft.getInstance().options.graphicsMode().get() == GraphicsStatus.FAST;
-        if (LegacyOptions.fastLeavesCustomModels.get() && blockState.getBlock() instanceof LeavesBlock && fastLeavesModels.containsKey(blockState.getBlock()) && (fastGraphics || LegacyOptions.fastLeavesWhenBlocked.get())) {
-            if (!fastGraphics && blockGetter != null) {
-                for (Direction value : Direction.values()) {
-                    BlockPos relative = pos.relative(value);
-                    BlockState relativeBlockState = blockGetter.getBlockState(relative);
-                    if (!(relativeBlockState.getBlock() instanceof LeavesBlock) && !relativeBlockState.isSolidRender(/*? if <1.21.2 {*//*blockGetter, relative*//*?}*/)) {
-                        return model;
-                    }
+        ResourceLocation fastModel = getFastLeavesModel(blockState);
+        if (fastModel == null) return model;
+        if (Minecraft.getInstance().options.graphicsMode().get() != GraphicsStatus.FAST && blockGetter != null) {
+            for (Direction value : Direction.values()) {
+                BlockPos relative = pos.relative(value);
+                BlockState relativeBlockState = blockGetter.getBlockState(relative);
+                if (!(relativeBlockState.getBlock() instanceof LeavesBlock) && !relativeBlockState.isSolidRender(/*? if <1.21.2 {*//*blockGetter, relative*//*?}*/)) {
+                    return model;
                 }
             }
-            return FactoryAPIClient.getExtraModel(fastLeavesModels.get(blockState.getBlock()));
         }
-        return model;
+        return FactoryAPIClient.getExtraModel(fastModel);
+    }
+
+    public static BlockStateModel getFastLeavesModelReplacement(LeavesOcclusionMask mask, BlockPos pos, BlockState blockState, /*? if <1.21.5 {*//*BakedModel*//*?} else {*/BlockStateModel/*?}*/ model) {
+        ResourceLocation fastModel = getFastLeavesModel(blockState);
+        if (fastModel == null || Minecraft.getInstance().options.graphicsMode().get() != GraphicsStatus.FAST && !mask.isOccluded(pos)) return model;
+        return FactoryAPIClient.getExtraModel(fastModel);
+    }
+
+    private static ResourceLocation getFastLeavesModel(BlockState blockState) {
+        if (!(blockState.getBlock() instanceof LeavesBlock) || !LegacyOptions.fastLeavesCustomModels.get()) return null;
+        ResourceLocation fastModel = fastLeavesModels.get(blockState.getBlock());
+        return fastModel != null && (LegacyOptions.fastLeavesWhenBlocked.get() || Minecraft.getInstance().options.graphicsMode().get() == GraphicsStatus.FAST) ? fastModel : null;
     }
 
     public static boolean hasModOnServer() {
@@ -0,0 +1,91 @@
+package wily.legacy.client;
+
+import com.mojang.datafixers.util.Pair;
+import net.minecraft.client.gui.components.debug.DebugScreenEntries;
+import wily.legacy.Legacy4J;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public class BoundedCache<K, V> implements Function<K, V> {
+    private static final List<BoundedCache<?, ?>> CACHES = new ArrayList<>();
+    private final String name;
+    private final Function<K, V> loader;
+    private final BiConsumer<K, V> onInvalidate;
+    private final Map<K, V> entries;
+    private long hits;
+    private long misses;
+
+    public BoundedCache(String name, int maximumSize, Function<K, V> loader, BiConsumer<K, V> onInvalidate) {
+        this.name = name;
+        this.loader = loader;
+        this.onInvalidate = onInvalidate;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maximumSize;
+            }
+        };
+        synchronized (CACHES) {
+            CACHES.add(this);
+        }
+    }
+
+    public static <K, V> BoundedCache<K, V> memoize(String name, int maximumSize, Function<K, V> loader) {
+        return new BoundedCache<>(name, maximumSize, loader, (k, v) -> {});
+    }
+
+    public static <A, B, V> BiFunction<A, B, V> memoize(String name, int maximumSize, BiFunction<A, B, V> loader) {
+        BoundedCache<Pair<A, B>, V> cache = memoize(name, maximumSize, p -> loader.apply(p.getFirst(), p.getSecond()));
+        return (a, b) -> cache.apply(Pair.of(a, b));
+    }
+
+    @Override
+    public synchronized V apply(K key) {
+        V value = entries.get(key);
+        if (value != null) {
+            hits++;
+            return value;
+        }
+        misses++;
+        value = loader.apply(key);
+        entries.put(key, value);
+        return value;
+    }
+
+    public synchronized void invalidate() {
+        entries.forEach(onInvalidate);
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized float getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (float) hits / requests;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static void invalidateAll() {
+        synchronized (CACHES) {
+            CACHES.forEach(BoundedCache::invalidate);
+        }
+    }
+
+    public static void registerDebugEntry() {
+        DebugScreenEntries.register(Legacy4J.createModLocation("caches"), (displayer, level, clientChunk, serverChunk) -> {
+            synchronized (CACHES) {
+                for (BoundedCache<?, ?> cache : CACHES) {
+                    displayer.addToGroup(Legacy4J.createModLocation("caches"), String.format(Locale.ROOT, "%s: %d entries, %.1f%% hits", cache.getName(), cache.size(), cache.getHitRate() * 100));
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package wily.legacy.client;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ItemAtlasAllocator {
+    private final int side;
+    private final int slotsPerPage;
+    private final int maxPages;
+    private final Map<Object, Slot> slots = new LinkedHashMap<>(16, 0.75f, true);
+    private int pages = 1;
+    private int nextSlot;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ItemAtlasAllocator(int side, int maxPages) {
+        this.side = side;
+        this.slotsPerPage = side * side;
+        this.maxPages = maxPages;
+    }
+
+    @Nullable
+    public Slot get(Object key, int frame) {
+        Slot slot = slots.get(key);
+        if (slot != null) {
+            slot.lastUsedFrame = frame;
+            hits++;
+        }
+        return slot;
+    }
+
+    @Nullable
+    public Slot allocate(Object key, int frame) {
+        misses++;
+        int index;
+        if (nextSlot < slotsPerPage * pages) {
+            index = nextSlot++;
+        } else {
+            Iterator<Slot> iterator = slots.values().iterator();
+            Slot eldest = iterator.hasNext() ? iterator.next() : null;
+            if (eldest != null && eldest.lastUsedFrame != frame) {
+                iterator.remove();
+                evictions++;
+                index = eldest.index;
+            } else if (pages < maxPages) {
+                pages++;
+                index = nextSlot++;
+            } else return null;
+        }
+        Slot slot = new Slot(index / slotsPerPage, index % slotsPerPage % side, index % slotsPerPage / side, index, frame);
+        slots.put(key, slot);
+        return slot;
+    }
+
+    public void clear() {
+        slots.clear();
+        pages = 1;
+        nextSlot = 0;
+    }
+
+    public int getSide() {
+        return side;
+    }
+
+    public int getPageCount() {
+        return pages;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public static final class Slot {
+        public final int page;
+        public final int column;
+        public final int row;
+        final int index;
+        int lastUsedFrame;
+        public int lastRenderedFrame = -1;
+
+        Slot(int page, int column, int row, int index, int lastUsedFrame) {
+            this.page = page;
+            this.column = column;
+            this.row = row;
+            this.index = index;
+            this.lastUsedFrame = lastUsedFrame;
+        }
+    }
+}
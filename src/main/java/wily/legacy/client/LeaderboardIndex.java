@@ -0,0 +1,99 @@
+package wily.legacy.client;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.stats.Stat;
+import wily.legacy.client.screen.LeaderboardsScreen;
+import wily.legacy.entity.LegacyPlayerInfo;
+
+import java.util.*;
+
+public class LeaderboardIndex {
+    private static final Comparator<Rank> ORDER = Comparator.comparingInt(Rank::total).reversed().thenComparing(Rank::name).thenComparing(Rank::player);
+    private static final Map<Stat<?>, Optional<LeaderboardsScreen.StatsBoard>> BOARD_BY_STAT = new HashMap<>();
+    private static final Map<LeaderboardsScreen.StatsBoard, Board> BOARDS = new IdentityHashMap<>();
+    private static int version;
+
+    public static int getVersion() {
+        return version;
+    }
+
+    public static void invalidate() {
+        version++;
+    }
+
+    public static void clear() {
+        BOARD_BY_STAT.clear();
+        BOARDS.clear();
+        invalidate();
+    }
+
+    public static Collection<Rank> getRanking(LeaderboardsScreen.StatsBoard statsBoard) {
+        Board board = BOARDS.get(statsBoard);
+        return board == null ? Collections.emptyList() : Collections.unmodifiableCollection(board.ranking);
+    }
+
+    public static Optional<LeaderboardsScreen.StatsBoard> getStatsBoard(Stat<?> stat) {
+        return BOARD_BY_STAT.computeIfAbsent(stat, s -> {
+            for (LeaderboardsScreen.StatsBoard statsBoard : LeaderboardsScreen.statsBoards) if (statsBoard.canAdd(s)) return Optional.of(statsBoard);
+            return Optional.empty();
+        });
+    }
+
+    public static void rebuild(Collection<? extends LegacyPlayerInfo> players) {
+        LeaderboardsScreen.statsBoards.forEach(LeaderboardsScreen.StatsBoard::clear);
+        BOARDS.clear();
+        Map<LeaderboardsScreen.StatsBoard, Object2IntMap<UUID>> totals = new IdentityHashMap<>();
+        for (LegacyPlayerInfo info : players) {
+            UUID player = info.legacyMinecraft$getProfile().id();
+            for (Object2IntMap.Entry<Stat<?>> entry : info.getStatsMap().object2IntEntrySet()) {
+                getStatsBoard(entry.getKey()).ifPresent(statsBoard -> {
+                    if (entry.getIntValue() > 0) statsBoard.add(entry.getKey());
+                    totals.computeIfAbsent(statsBoard, b -> new Object2IntOpenHashMap<>()).mergeInt(player, entry.getIntValue(), Integer::sum);
+                });
+            }
+        }
+        for (LegacyPlayerInfo info : players) {
+            UUID player = info.legacyMinecraft$getProfile().id();
+            totals.forEach((statsBoard, boardTotals) -> getBoard(statsBoard).set(player, info.legacyMinecraft$getProfile().name(), boardTotals.getInt(player)));
+        }
+        invalidate();
+    }
+
+    public static void update(LegacyPlayerInfo info, Object2IntMap<Stat<?>> previousStats, Collection<Stat<?>> changedStats) {
+        UUID player = info.legacyMinecraft$getProfile().id();
+        Object2IntMap<Stat<?>> stats = info.getStatsMap();
+        for (Stat<?> stat : changedStats) {
+            getStatsBoard(stat).ifPresent(statsBoard -> {
+                int value = stats.getInt(stat);
+                if (value > 0) statsBoard.add(stat);
+                int difference = value - previousStats.getInt(stat);
+                if (difference != 0) getBoard(statsBoard).add(player, info.legacyMinecraft$getProfile().name(), difference);
+            });
+        }
+        invalidate();
+    }
+
+    private static Board getBoard(LeaderboardsScreen.StatsBoard statsBoard) {
+        return BOARDS.computeIfAbsent(statsBoard, b -> new Board());
+    }
+
+    public record Rank(UUID player, String name, int total) {
+    }
+
+    private static class Board {
+        private final Map<UUID, Rank> byPlayer = new HashMap<>();
+        private final NavigableSet<Rank> ranking = new TreeSet<>(ORDER);
+
+        private void add(UUID player, String name, int difference) {
+            Rank rank = byPlayer.get(player);
+            set(player, name, (rank == null ? 0 : rank.total()) + difference);
+        }
+
+        private void set(UUID player, String name, int total) {
+            Rank previous = total > 0 ? byPlayer.put(player, new Rank(player, name, total)) : byPlayer.remove(player);
+            if (previous != null) ranking.remove(previous);
+            if (total > 0) ranking.add(byPlayer.get(player));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package wily.legacy.client;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.LeavesBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+public class LeavesOcclusionMask {
+    private static final ThreadLocal<LeavesOcclusionMask> CURRENT = new ThreadLocal<>();
+    private static final int SIZE = 18;
+    private static final byte UNKNOWN = 0;
+    private static final byte OCCLUDING = 1;
+    private static final byte OPEN = 2;
+    private final BlockGetter blockGetter;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+    private byte[] cells;
+
+    public LeavesOcclusionMask(BlockGetter blockGetter, SectionPos sectionPos) {
+        this.blockGetter = blockGetter;
+        this.minX = sectionPos.minBlockX() - 1;
+        this.minY = sectionPos.minBlockY() - 1;
+        this.minZ = sectionPos.minBlockZ() - 1;
+    }
+
+    public static void begin(BlockGetter blockGetter, SectionPos sectionPos) {
+        CURRENT.set(new LeavesOcclusionMask(blockGetter, sectionPos));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    @Nullable
+    public static LeavesOcclusionMask current() {
+        return CURRENT.get();
+    }
+
+    public boolean isOccluded(BlockPos pos) {
+        for (Direction direction : Direction.values()) {
+            if (!isOccluding(pos.getX() + direction.getStepX(), pos.getY() + direction.getStepY(), pos.getZ() + direction.getStepZ())) return false;
+        }
+        return true;
+    }
+
+    private boolean isOccluding(int x, int y, int z) {
+        int localX = x - minX;
+        int localY = y - minY;
+        int localZ = z - minZ;
+        if (localX < 0 || localY < 0 || localZ < 0 || localX >= SIZE || localY >= SIZE || localZ >= SIZE) return isOccluding(blockGetter.getBlockState(mutablePos.set(x, y, z)));
+        if (cells == null) cells = new byte[SIZE * SIZE * SIZE];
+        int index = (localY * SIZE + localZ) * SIZE + localX;
+        byte cell = cells[index];
+        if (cell == UNKNOWN) cells[index] = cell = isOccluding(blockGetter.getBlockState(mutablePos.set(x, y, z))) ? OCCLUDING : OPEN;
+        return cell == OCCLUDING;
+    }
+
+    private boolean isOccluding(BlockState blockState) {
+        return blockState.getBlock() instanceof LeavesBlock || blockState.isSolidRender(/*? if <1.21.2 {*//*blockGetter, mutablePos*//*?}*/);
+    }
+}
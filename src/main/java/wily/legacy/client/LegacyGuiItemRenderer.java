@@ -32,29 +32,25 @@ import wily.factoryapi.FactoryAPI;
 import wily.factoryapi.FactoryAPIPlatform;
 import wily.factoryapi.util.ColorUtil;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Consumer;
 
 public class LegacyGuiItemRenderer implements AutoCloseable {
     public static final Logger LOGGER = LogManager.getLogger("legacy_gui_item_renderer");
     private static final int MAXIMUM_ITEM_ATLAS_SIZE = RenderSystem.getDevice().getMaxTextureSize();
+    private static final int MAXIMUM_ITEM_ATLAS_PAGES = 4;
     public static float OPACITY = 1;
     private final int size;
     private final float opacity;
-    private final Map<Object, AtlasPosition> atlasPositions = new Object2ObjectOpenHashMap<>();
+    private final List<AtlasPage> atlasPages = new ArrayList<>();
     private final Map<Object, OversizedItemRenderer> oversizedItemRenderers = new Object2ObjectOpenHashMap<>();
     private final CachedOrthoProjectionMatrixBuffer itemsProjectionMatrixBuffer = new CachedOrthoProjectionMatrixBuffer("items", -1000.0F, 1000.0F, true);
     @Nullable
-    private GpuTexture itemsAtlas;
-    @Nullable
-    private GpuTextureView itemsAtlasView;
-    @Nullable
-    private GpuTexture itemsAtlasDepth;
-    @Nullable
-    private GpuTextureView itemsAtlasDepthView;
-    private int itemAtlasX;
-    private int itemAtlasY;
+    private ItemAtlasAllocator allocator;
+    private int atlasSize;
+    private int requestedAtlasSize;
     private int cachedGuiScale;
     private boolean isValid = true;
 
@@ -98,27 +94,28 @@ public class LegacyGuiItemRenderer implements AutoCloseable {
         return Math.round(Math.max(getXScale(matrix), getYScale(matrix)) * 16);
     }
 
-    private void createAtlasTextures(int i) {
+    private AtlasPage createAtlasPage(int i) {
         GpuDevice gpuDevice = RenderSystem.getDevice();
-        this.itemsAtlas = gpuDevice.createTexture("UI items atlas", 12, TextureFormat.RGBA8, i, i, 1, 1);
-        this.itemsAtlas.setTextureFilter(FilterMode.NEAREST, false);
-        this.itemsAtlasView = gpuDevice.createTextureView(this.itemsAtlas);
-        this.itemsAtlasDepth = gpuDevice.createTexture("UI items atlas depth", 8, TextureFormat.DEPTH32, i, i, 1, 1);
-        this.itemsAtlasDepthView = gpuDevice.createTextureView(this.itemsAtlasDepth);
-        gpuDevice.createCommandEncoder().clearColorAndDepthTextures(this.itemsAtlas, 0, this.itemsAtlasDepth, 1.0);
+        GpuTexture texture = gpuDevice.createTexture("UI items atlas", 12, TextureFormat.RGBA8, i, i, 1, 1);
+        texture.setTextureFilter(FilterMode.NEAREST, false);
+        GpuTexture depth = gpuDevice.createTexture("UI items atlas depth", 8, TextureFormat.DEPTH32, i, i, 1, 1);
+        gpuDevice.createCommandEncoder().clearColorAndDepthTextures(texture, 0, depth, 1.0);
+        return new AtlasPage(texture, gpuDevice.createTextureView(texture), depth, gpuDevice.createTextureView(depth));
     }
 
     public void prepareItemElements(FeatureRenderDispatcher dispatcher, SubmitNodeCollector submitNodeCollector, MultiBufferSource.BufferSource bufferSource, GuiRenderState renderState, int frameNumber) {
         if (!renderState.getItemModelIdentities().isEmpty()) {
             int i = this.getGuiScaleInvalidatingItemAtlasIfChanged();
             int j = size * i;
-            int k = this.calculateAtlasSizeInPixels(renderState, j);
-            if (this.itemsAtlas == null) {
-                this.createAtlasTextures(k);
+            int neededAtlasSize = Math.max(this.calculateAtlasSizeInPixels(renderState, j), this.requestedAtlasSize);
+            if (this.allocator == null || neededAtlasSize > this.atlasSize) {
+                this.invalidateItemAtlas();
+                this.atlasSize = neededAtlasSize;
+                this.requestedAtlasSize = 0;
+                this.allocator = new ItemAtlasAllocator(this.atlasSize / j, MAXIMUM_ITEM_ATLAS_PAGES);
             }
+            int k = this.atlasSize;
 
-            RenderSystem.outputColorTextureOverride = this.itemsAtlasView;
-            RenderSystem.outputDepthTextureOverride = this.itemsAtlasDepthView;
             RenderSystem.setProjectionMatrix(this.itemsProjectionMatrixBuffer.getBuffer(k, k), ProjectionType.ORTHOGRAPHIC);
             Minecraft.getInstance().gameRenderer.getLighting().setupFor(Lighting.Entry.ITEMS_3D);
             PoseStack poseStack = new PoseStack();
@@ -134,44 +131,29 @@ public class LegacyGuiItemRenderer implements AutoCloseable {
                                     mutableBoolean2.setTrue();
                                 } else {
                                     TrackingItemStackRenderState trackingItemStackRenderState = guiItemRenderState.itemStackRenderState();
-                                    AtlasPosition atlasPosition = this.atlasPositions.get(trackingItemStackRenderState.getModelIdentity());
-                                    if (atlasPosition == null || trackingItemStackRenderState.isAnimated() && atlasPosition.lastAnimatedOnFrame != frameNumber) {
-                                        if (this.itemAtlasX + j > k) {
-                                            this.itemAtlasX = 0;
-                                            this.itemAtlasY += j;
-                                        }
-
-                                        boolean bl = trackingItemStackRenderState.isAnimated() && atlasPosition != null;
-                                        if (!bl && this.itemAtlasY + j > k) {
-                                            if (mutableBoolean.isFalse()) {
-                                                LOGGER.warn("Trying to render too many items in GUI at the same time. Skipping some of them.");
-                                                mutableBoolean.setTrue();
-                                            }
-                                        } else {
-                                            int kx = bl ? atlasPosition.x : this.itemAtlasX;
-                                            int l = bl ? atlasPosition.y : this.itemAtlasY;
-                                            if (bl) {
-                                                RenderSystem.getDevice().createCommandEncoder().clearColorAndDepthTextures(this.itemsAtlas, 0, this.itemsAtlasDepth, 1.0, kx, k - l - j, j, j);
-                                            }
-
-                                            this.renderItemToAtlas(dispatcher, submitNodeCollector, bufferSource, trackingItemStackRenderState, poseStack, kx, l, j);
-                                            float f = (float) kx / k;
-                                            float g = (float) (k - l) / k;
-                                            this.submitBlitFromItemAtlas(renderState, guiItemRenderState, f, g, j, k);
-                                            if (bl) {
-                                                atlasPosition.lastAnimatedOnFrame = frameNumber;
-                                            } else {
-                                                this.atlasPositions
-                                                        .put(
-                                                                guiItemRenderState.itemStackRenderState().getModelIdentity(),
-                                                                new AtlasPosition(this.itemAtlasX, this.itemAtlasY, f, g, frameNumber)
-                                                        );
-                                                this.itemAtlasX += j;
-                                            }
+                                    Object modelIdentity = trackingItemStackRenderState.getModelIdentity();
+                                    ItemAtlasAllocator.Slot slot = this.allocator.get(modelIdentity, frameNumber);
+                                    if (slot == null) slot = this.allocator.allocate(modelIdentity, frameNumber);
+                                    if (slot == null) {
+                                        if (this.atlasSize < MAXIMUM_ITEM_ATLAS_SIZE) {
+                                            this.requestedAtlasSize = Math.min(this.atlasSize * 2, MAXIMUM_ITEM_ATLAS_SIZE);
+                                        } else if (mutableBoolean.isFalse()) {
+                                            LOGGER.warn("Trying to render too many items in GUI at the same time. Skipping some of them.");
+                                            mutableBoolean.setTrue();
                                         }
-                                    } else {
-                                        this.submitBlitFromItemAtlas(renderState, guiItemRenderState, atlasPosition.u, atlasPosition.v, j, k);
+                                        return;
+                                    }
+                                    AtlasPage page = this.getAtlasPage(slot.page, k);
+                                    int kx = slot.column * j;
+                                    int l = slot.row * j;
+                                    if (slot.lastRenderedFrame == -1 || trackingItemStackRenderState.isAnimated() && slot.lastRenderedFrame != frameNumber) {
+                                        RenderSystem.getDevice().createCommandEncoder().clearColorAndDepthTextures(page.texture(), 0, page.depth(), 1.0, kx, k - l - j, j, j);
+                                        RenderSystem.outputColorTextureOverride = page.view();
+                                        RenderSystem.outputDepthTextureOverride = page.depthView();
+                                        this.renderItemToAtlas(dispatcher, submitNodeCollector, bufferSource, trackingItemStackRenderState, poseStack, kx, l, j, k);
+                                        slot.lastRenderedFrame = frameNumber;
                                     }
+                                    this.submitBlitFromItemAtlas(renderState, guiItemRenderState, page.view(), (float) kx / k, (float) (k - l) / k, j, k);
                                 }
                             }
                     );
@@ -200,7 +182,7 @@ public class LegacyGuiItemRenderer implements AutoCloseable {
         }
     }
 
-    private void submitBlitFromItemAtlas(GuiRenderState renderState, GuiItemRenderState guiItemRenderState, float u, float v, int size, int atlasSize) {
+    private void submitBlitFromItemAtlas(GuiRenderState renderState, GuiItemRenderState guiItemRenderState, GpuTextureView atlasView, float u, float v, int size, int atlasSize) {
         float h = u + (float) size / atlasSize;
         float k = v + (float) (-size) / atlasSize;
         //Compatibility with VulkanMod rendering
@@ -213,7 +195,7 @@ public class LegacyGuiItemRenderer implements AutoCloseable {
                 .submitBlitToCurrentLayer(
                         new BlitRenderState(
                                 opacity == 1.0f || !LegacyOptions.enhancedItemTranslucency.get() ? RenderPipelines.GUI_TEXTURED_PREMULTIPLIED_ALPHA : RenderPipelines.GUI_TEXTURED,
-                                TextureSetup.singleTexture(this.itemsAtlasView),
+                                TextureSetup.singleTexture(atlasView),
                                 guiItemRenderState.pose(),
                                 guiItemRenderState.x(),
                                 guiItemRenderState.y(),
@@ -230,7 +212,7 @@ public class LegacyGuiItemRenderer implements AutoCloseable {
                 );
     }
 
-    private void renderItemToAtlas(FeatureRenderDispatcher featureRenderDispatcher, SubmitNodeCollector submitNodeCollector, MultiBufferSource.BufferSource bufferSource, TrackingItemStackRenderState trackingItemStackRenderState, PoseStack poseStack, int x, int y, int k) {
+    private void renderItemToAtlas(FeatureRenderDispatcher featureRenderDispatcher, SubmitNodeCollector submitNodeCollector, MultiBufferSource.BufferSource bufferSource, TrackingItemStackRenderState trackingItemStackRenderState, PoseStack poseStack, int x, int y, int k, int atlasSize) {
         poseStack.pushPose();
         poseStack.translate(x + k / 2.0F, y + k / 2.0F, 0.0F);
         poseStack.scale(k, -k, k);
@@ -242,7 +224,7 @@ public class LegacyGuiItemRenderer implements AutoCloseable {
         }
         if (opacity != 1.0f && !LegacyOptions.enhancedItemTranslucency.get())
             LegacyFeatureRenderDispatcher.of(featureRenderDispatcher).setBufferSource(BufferSourceWrapper.translucent(bufferSource, opacity));
-        RenderSystem.enableScissorForRenderTypeDraws(x, this.itemsAtlas.getHeight(0) - y - k, k, k);
+        RenderSystem.enableScissorForRenderTypeDraws(x, atlasSize - y - k, k, k);
         trackingItemStackRenderState.submit(poseStack, submitNodeCollector, 15728880, OverlayTexture.NO_OVERLAY, 0);
         featureRenderDispatcher.renderAllFeatures();
         bufferSource.endBatch();
@@ -252,39 +234,23 @@ public class LegacyGuiItemRenderer implements AutoCloseable {
     }
 
     private int calculateAtlasSizeInPixels(GuiRenderState renderState, int i) {
-        Set<Object> set = renderState.getItemModelIdentities();
-        int j;
-        if (this.atlasPositions.isEmpty()) {
-            j = set.size();
-        } else {
-            j = this.atlasPositions.size();
-
-            for (Object object : set) {
-                if (!this.atlasPositions.containsKey(object)) {
-                    j++;
-                }
-            }
-        }
-
-        if (this.itemsAtlas != null) {
-            int k = this.itemsAtlas.getWidth(0) / i;
-            int l = k * k;
-            if (j < l) {
-                return this.itemsAtlas.getWidth(0);
-            }
-
-            this.invalidateItemAtlas();
-        }
-
-        int k = set.size();
+        int k = renderState.getItemModelIdentities().size();
         int l = Mth.smallestSquareSide(k + k / 2);
         return Math.clamp(Mth.smallestEncompassingPowerOfTwo(l * i), 512, MAXIMUM_ITEM_ATLAS_SIZE);
     }
 
+    private AtlasPage getAtlasPage(int index, int atlasSize) {
+        while (this.atlasPages.size() <= index) {
+            this.atlasPages.add(this.createAtlasPage(atlasSize));
+        }
+        return this.atlasPages.get(index);
+    }
+
     private int getGuiScaleInvalidatingItemAtlasIfChanged() {
         int i = Minecraft.getInstance().getWindow().getGuiScale();
         if (i != this.cachedGuiScale) {
             this.invalidateItemAtlas();
+            this.requestedAtlasSize = 0;
 
             for (OversizedItemRenderer oversizedItemRenderer : this.oversizedItemRenderers.values()) {
                 oversizedItemRenderer.invalidateTexture();
@@ -302,28 +268,14 @@ public class LegacyGuiItemRenderer implements AutoCloseable {
     }
 
     private void invalidateItemAtlas() {
-        this.itemAtlasX = 0;
-        this.itemAtlasY = 0;
-        this.atlasPositions.clear();
-        if (this.itemsAtlas != null) {
-            this.itemsAtlas.close();
-            this.itemsAtlas = null;
-        }
-
-        if (this.itemsAtlasView != null) {
-            this.itemsAtlasView.close();
-            this.itemsAtlasView = null;
-        }
-
-        if (this.itemsAtlasDepth != null) {
-            this.itemsAtlasDepth.close();
-            this.itemsAtlasDepth = null;
-        }
+        this.allocator = null;
+        this.atlasPages.forEach(AtlasPage::close);
+        this.atlasPages.clear();
+    }
 
-        if (this.itemsAtlasDepthView != null) {
-            this.itemsAtlasDepthView.close();
-            this.itemsAtlasDepthView = null;
-        }
+    @Nullable
+    public ItemAtlasAllocator getAllocator() {
+        return allocator;
     }
 
     public boolean isValid() {
@@ -338,19 +290,13 @@ public class LegacyGuiItemRenderer implements AutoCloseable {
         isValid = false;
     }
 
-    public static final class AtlasPosition {
-        final int x;
-        final int y;
-        final float u;
-        final float v;
-        int lastAnimatedOnFrame;
-
-        AtlasPosition(int i, int j, float f, float g, int k) {
-            this.x = i;
-            this.y = j;
-            this.u = f;
-            this.v = g;
-            this.lastAnimatedOnFrame = k;
+    private record AtlasPage(GpuTexture texture, GpuTextureView view, GpuTexture depth, GpuTextureView depthView) implements AutoCloseable {
+        @Override
+        public void close() {
+            view.close();
+            texture.close();
+            depthView.close();
+            depth.close();
         }
     }
 }
@@ -98,6 +98,7 @@ public class LegacyResourceManager implements ResourceManagerReloadListener {
     @Override
     public void onResourceManagerReload(ResourceManager resourceManager) {
         Minecraft minecraft = Minecraft.getInstance();
+        BoundedCache.invalidateAll();
 
         resourceManager.getResource(GAMEPAD_MAPPINGS).ifPresent(r -> {
             try {
@@ -1,16 +1,23 @@
 package wily.legacy.client;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import net.minecraft.client.Minecraft;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.storage.LevelStorageSource;
 import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.Nullable;
 import wily.legacy.Legacy4J;
 import wily.legacy.Legacy4JClient;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Path;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 public class LegacySaveCache {
@@ -19,6 +26,8 @@ public class LegacySaveCache {
     public static boolean manualSave = false;
     public static boolean saveExit = false;
     public static boolean retakeWorldIcon = false;
+    private static final Map<Path, Map<Path, FileState>> SYNC_MANIFESTS = new HashMap<>();
+    private static CompletableFuture<Void> pendingSave = CompletableFuture.completedFuture(null);
 
     public static void setup(Minecraft m) {
         currentWorldSource = LevelStorageSource.createDefault(m.gameDirectory.toPath().resolve("current-world"));
@@ -37,8 +46,35 @@ public class LegacySaveCache {
     }
 
     public static void saveLevel(LevelStorageSource.LevelStorageAccess storageSource) {
-        if (isCurrentWorldSource(storageSource))
-            copySaveBtwSources(storageSource, Minecraft.getInstance().getLevelSource(), false);
+        saveLevelAsync(storageSource, Runnable::run).join();
+    }
+
+    public static synchronized CompletableFuture<Void> saveLevelAsync(LevelStorageSource.LevelStorageAccess storageSource, Executor executor) {
+        return saveLevelAsync(storageSource, executor, () -> {}, () -> {});
+    }
+
+    public static synchronized CompletableFuture<Void> saveLevelAsync(LevelStorageSource.LevelStorageAccess storageSource, Executor executor, Runnable before, Runnable after) {
+        if (!isCurrentWorldSource(storageSource)) return pendingSave;
+        return pendingSave = pendingSave.exceptionally(t -> null).thenRunAsync(() -> {
+            before.run();
+            try {
+                syncSaveBtwSources(storageSource, Minecraft.getInstance().getLevelSource());
+            } finally {
+                after.run();
+            }
+        }, executor);
+    }
+
+    public static CompletableFuture<Void> getPendingSave() {
+        return pendingSave;
+    }
+
+    public static void awaitPendingSave() {
+        try {
+            getPendingSave().join();
+        } catch (Exception e) {
+            Legacy4J.LOGGER.warn("Error when waiting for the world save to finish: {}", e.getMessage());
+        }
     }
 
     public static String importSaveFile(InputStream saveInputStream, Predicate<String> exists, LevelStorageSource source, String saveDirName) {
@@ -66,15 +102,101 @@ public class LegacySaveCache {
     public static void copySaveBtwSources(LevelStorageSource.LevelStorageAccess sendSource, LevelStorageSource destSource, boolean deleteOldDest) {
         try {
             File destLevelDirectory = destSource.getBaseDir().resolve(sendSource.getLevelId()).toFile();
-            if (deleteOldDest && destLevelDirectory.exists()) FileUtils.deleteQuietly(destLevelDirectory);
-            FileUtils.copyDirectory(sendSource.getDimensionPath(Level.OVERWORLD).toFile(), destLevelDirectory, p -> {
-                if (p.getName().equals("session.lock")) return false;
-                if (deleteOldDest) return true;
-                File destFile = p.toPath().relativize(destLevelDirectory.toPath()).toFile();
-                return !destFile.exists() || FileUtils.isFileNewer(p, destFile);
-            });
+            // Later syncs go the other way (copy -> original), so their manifest is keyed by the original directory
+            Path syncDestDirectory = getManifestKey(sendSource.getDimensionPath(Level.OVERWORLD));
+            synchronized (SYNC_MANIFESTS) {
+                SYNC_MANIFESTS.remove(syncDestDirectory);
+                if (deleteOldDest && destLevelDirectory.exists()) FileUtils.deleteQuietly(destLevelDirectory);
+                FileUtils.copyDirectory(sendSource.getDimensionPath(Level.OVERWORLD).toFile(), destLevelDirectory, p -> {
+                    if (p.getName().equals("session.lock")) return false;
+                    if (deleteOldDest) return true;
+                    File destFile = p.toPath().relativize(destLevelDirectory.toPath()).toFile();
+                    return !destFile.exists() || FileUtils.isFileNewer(p, destFile);
+                });
+                // copyDirectory preserves file dates, so the copied files' size and mtime match the original ones
+                if (deleteOldDest) SYNC_MANIFESTS.put(syncDestDirectory, createCopyManifest(destLevelDirectory.toPath()));
+            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
+
+    private static Map<Path, FileState> createCopyManifest(Path sourceDirectory) throws IOException {
+        Map<Path, FileState> manifest = new HashMap<>();
+        for (Path file : listSaveFiles(sourceDirectory)) {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            manifest.put(sourceDirectory.relativize(file), new FileState(attributes.size(), attributes.lastModifiedTime().toMillis(), null));
+        }
+        return manifest;
+    }
+
+    private static Path getManifestKey(Path directory) {
+        return directory.toAbsolutePath().normalize();
+    }
+
+    private static List<Path> listSaveFiles(Path directory) throws IOException {
+        try (var stream = Files.walk(directory)) {
+            return stream.filter(Files::isRegularFile).filter(p -> !p.getFileName().toString().equals("session.lock")).toList();
+        }
+    }
+
+    public static void syncSaveBtwSources(LevelStorageSource.LevelStorageAccess sendSource, LevelStorageSource destSource) {
+        Path sourceDirectory = sendSource.getDimensionPath(Level.OVERWORLD);
+        Path destDirectory = destSource.getBaseDir().resolve(sendSource.getLevelId());
+        Path manifestKey = getManifestKey(destDirectory);
+        synchronized (SYNC_MANIFESTS) {
+            Map<Path, FileState> manifest = SYNC_MANIFESTS.get(manifestKey);
+            Set<Path> removed = new HashSet<>();
+            int copied = 0;
+            try {
+                Files.createDirectories(destDirectory);
+                if (manifest == null) {
+                    SYNC_MANIFESTS.put(manifestKey, manifest = new HashMap<>());
+                    for (Path file : listSaveFiles(destDirectory)) removed.add(destDirectory.relativize(file));
+                } else removed.addAll(manifest.keySet());
+                for (Path file : listSaveFiles(sourceDirectory)) {
+                    Path relative = sourceDirectory.relativize(file);
+                    removed.remove(relative);
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    FileState state = manifest.get(relative);
+                    if (state != null && state.size() == attributes.size() && state.lastModified() == attributes.lastModifiedTime().toMillis()) continue;
+
+                    Path destFile = destDirectory.resolve(relative.toString());
+                    HashCode hash = hashFile(file);
+                    if (state == null && Files.isRegularFile(destFile) && Files.size(destFile) == attributes.size()) state = new FileState(attributes.size(), -1, hashFile(destFile));
+                    if (state == null || !hash.equals(state.hash()) || !Files.exists(destFile)) {
+                        copyAtomically(file, destFile);
+                        copied++;
+                    }
+                    manifest.put(relative, new FileState(attributes.size(), attributes.lastModifiedTime().toMillis(), hash));
+                }
+                for (Path relative : removed) {
+                    Files.deleteIfExists(destDirectory.resolve(relative.toString()));
+                    manifest.remove(relative);
+                }
+                Legacy4J.LOGGER.debug("Synced world save {}: {} changed files, {} removed files", sendSource.getLevelId(), copied, removed.size());
+            } catch (IOException e) {
+                SYNC_MANIFESTS.remove(manifestKey);
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static HashCode hashFile(Path path) throws IOException {
+        return com.google.common.io.Files.asByteSource(path.toFile()).hash(Hashing.murmur3_128());
+    }
+
+    private static void copyAtomically(Path source, Path dest) throws IOException {
+        Files.createDirectories(dest.getParent());
+        Path temp = dest.resolveSibling(dest.getFileName() + ".tmp");
+        Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        try {
+            Files.move(temp, dest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, dest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private record FileState(long size, long lastModified, @Nullable HashCode hash) {
+    }
 }
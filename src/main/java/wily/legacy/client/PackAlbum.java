@@ -293,8 +293,8 @@ public record PackAlbum(String id, int version, Component displayName, Component
         private static final Map<String, ResourceLocation> packIcons = Maps.newHashMap();
         private static final Map<String, ResourceLocation> packBackgrounds = Maps.newHashMap();
         public final Stocker.Sizeable scrolledList;
-        public static final BiFunction<Component, Integer, MultiLineLabel> labelsCache = Util.memoize((c, i) -> MultiLineLabel.create(Minecraft.getInstance().font, c, i));
-        public static final BiFunction<Component, Integer, MultiLineLabel> sdLabelsCache = Util.memoize((c, i) -> MultiLineLabel.create(Minecraft.getInstance().font, c.copy().withStyle(c.getStyle().withFont(LegacyFontUtil.MOJANGLES_11_FONT)), i));
+        public static final BiFunction<Component, Integer, MultiLineLabel> labelsCache = BoundedCache.memoize("pack_labels", 64, (c, i) -> MultiLineLabel.create(Minecraft.getInstance().font, c, i));
+        public static final BiFunction<Component, Integer, MultiLineLabel> sdLabelsCache = BoundedCache.memoize("pack_sd_labels", 64, (c, i) -> MultiLineLabel.create(Minecraft.getInstance().font, c.copy().withStyle(c.getStyle().withFont(LegacyFontUtil.MOJANGLES_11_FONT)), i));
         protected final PackAlbum initialAlbum;
         protected final List<String> oldSelection;
         protected final LegacyScrollRenderer scrollRenderer = new LegacyScrollRenderer();
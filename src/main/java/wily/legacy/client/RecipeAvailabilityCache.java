@@ -0,0 +1,132 @@
+package wily.legacy.client;
+
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import wily.factoryapi.base.FactoryIngredient;
+import wily.factoryapi.util.FactoryItemUtil;
+import wily.legacy.inventory.CraftingInventoryIndex;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+public class RecipeAvailabilityCache {
+    private final Supplier<Inventory> inventory;
+    private final Supplier<ItemStack> carriedItem;
+    private final Map<List<Optional<Ingredient>>, Boolean> craftableByIngredients = new IdentityHashMap<>();
+    private final Map<Item, Set<List<Optional<Ingredient>>>> dependentsByItem = new HashMap<>();
+    private final Set<List<Optional<Ingredient>>> unboundDependents = Collections.newSetFromMap(new IdentityHashMap<>());
+    private CraftingInventoryIndex index;
+    private int version = -1;
+    private int timesChanged = -1;
+    private ItemStack lastCarriedItem = ItemStack.EMPTY;
+
+    public RecipeAvailabilityCache(Supplier<Inventory> inventory, Supplier<ItemStack> carriedItem) {
+        this.inventory = inventory;
+        this.carriedItem = carriedItem;
+    }
+
+    public CraftingInventoryIndex getIndex() {
+        Inventory inv = inventory.get();
+        ItemStack carried = carriedItem.get();
+        if (index == null || timesChanged != inv.getTimesChanged() || !ItemStack.matches(lastCarriedItem, carried)) {
+            CraftingInventoryIndex oldIndex = index;
+            index = CraftingInventoryIndex.of(inv, carried);
+            timesChanged = inv.getTimesChanged();
+            lastCarriedItem = carried.copy();
+            version++;
+            if (oldIndex == null) clear();
+            else invalidate(getChangedItems(oldIndex, index));
+        }
+        return index;
+    }
+
+    public int getVersion() {
+        getIndex();
+        return version;
+    }
+
+    public boolean test(List<Optional<Ingredient>> ingredients) {
+        return hasAnyIngredient(ingredients) && getIndex().canCraft(ingredients);
+    }
+
+    public boolean canCraft(List<Optional<Ingredient>> recipeIngredients) {
+        CraftingInventoryIndex index = getIndex();
+        Boolean craftable = craftableByIngredients.get(recipeIngredients);
+        if (craftable == null) {
+            craftable = hasAnyIngredient(recipeIngredients) && index.canCraft(recipeIngredients);
+            craftableByIngredients.put(recipeIngredients, craftable);
+            addDependent(recipeIngredients);
+        }
+        return craftable;
+    }
+
+    public void clear() {
+        craftableByIngredients.clear();
+        dependentsByItem.clear();
+        unboundDependents.clear();
+    }
+
+    protected static boolean hasAnyIngredient(List<Optional<Ingredient>> ingredients) {
+        for (Optional<Ingredient> ing : ingredients) {
+            if (ing.isPresent()) return true;
+        }
+        return false;
+    }
+
+    protected void addDependent(List<Optional<Ingredient>> recipeIngredients) {
+        for (Optional<Ingredient> ing : recipeIngredients) {
+            if (ing.isEmpty()) continue;
+            ItemStack[] stacks = FactoryIngredient.of(ing.get()).getStacks();
+            if (stacks.length == 0) {
+                unboundDependents.add(recipeIngredients);
+                continue;
+            }
+            for (ItemStack stack : stacks)
+                dependentsByItem.computeIfAbsent(stack.getItem(), i -> Collections.newSetFromMap(new IdentityHashMap<>())).add(recipeIngredients);
+        }
+    }
+
+    protected void invalidate(Set<Item> changedItems) {
+        if (changedItems.isEmpty()) return;
+        unboundDependents.forEach(craftableByIngredients::remove);
+        unboundDependents.clear();
+        for (Item item : changedItems) {
+            Set<List<Optional<Ingredient>>> dependents = dependentsByItem.remove(item);
+            if (dependents != null) dependents.forEach(craftableByIngredients::remove);
+        }
+    }
+
+    protected static Set<Item> getChangedItems(CraftingInventoryIndex oldIndex, CraftingInventoryIndex newIndex) {
+        Set<Item> changedItems = new HashSet<>();
+        Map<Item, List<CraftingInventoryIndex.Entry>> oldEntries = groupByItem(oldIndex);
+        Map<Item, List<CraftingInventoryIndex.Entry>> newEntries = groupByItem(newIndex);
+        oldEntries.forEach((item, entries) -> {
+            if (!sameEntries(entries, newEntries.get(item))) changedItems.add(item);
+        });
+        newEntries.keySet().forEach(item -> {
+            if (!oldEntries.containsKey(item)) changedItems.add(item);
+        });
+        return changedItems;
+    }
+
+    private static Map<Item, List<CraftingInventoryIndex.Entry>> groupByItem(CraftingInventoryIndex index) {
+        Map<Item, List<CraftingInventoryIndex.Entry>> map = new HashMap<>();
+        for (CraftingInventoryIndex.Entry entry : index.getEntries())
+            map.computeIfAbsent(entry.key.getItem(), i -> new ArrayList<>(1)).add(entry);
+        return map;
+    }
+
+    private static boolean sameEntries(List<CraftingInventoryIndex.Entry> entries, List<CraftingInventoryIndex.Entry> otherEntries) {
+        if (otherEntries == null || entries.size() != otherEntries.size()) return false;
+        main:
+        for (CraftingInventoryIndex.Entry entry : entries) {
+            for (CraftingInventoryIndex.Entry other : otherEntries) {
+                if (entry.getCount() == other.getCount() && FactoryItemUtil.equalItems(entry.key, other.key)) continue main;
+            }
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package wily.legacy.client;
+
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.*;
+import wily.factoryapi.base.network.CommonRecipeManager;
+import wily.legacy.inventory.LegacyCraftingMenu;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+public class RecipeCatalog {
+    private static final Map<ResourceLocation, ItemStack> CRAFTING_RESULTS = new HashMap<>();
+    private static final Map<Integer, Entry<CraftingRecipe>> CRAFTING_BY_GRID = new HashMap<>();
+    private static Entry<StonecutterRecipe> stonecutting;
+    private static RegistryAccess lastRegistryAccess;
+
+    public static Entry<CraftingRecipe> crafting(int gridDimension) {
+        return crafting(Minecraft.getInstance().level.registryAccess(), gridDimension);
+    }
+
+    public static Entry<StonecutterRecipe> stonecutting() {
+        return stonecutting(Minecraft.getInstance().level.registryAccess());
+    }
+
+    public static synchronized Entry<CraftingRecipe> crafting(RegistryAccess registryAccess, int gridDimension) {
+        validate(registryAccess);
+        var holders = CommonRecipeManager.byType(RecipeType.CRAFTING);
+        Entry<CraftingRecipe> entry = CRAFTING_BY_GRID.get(gridDimension);
+        if (entry != null && entry.source != holders && entry.fingerprint == fingerprint(holders))
+            CRAFTING_BY_GRID.put(gridDimension, entry = entry.withSource(holders));
+        if (entry == null || entry.source != holders) {
+            if (entry != null) CRAFTING_RESULTS.clear();
+            int gridSize = gridDimension * gridDimension;
+            List<Optional<Ingredient>> emptyGrid = Collections.nCopies(gridSize, Optional.empty());
+            List<RecipeInfo<CraftingRecipe>> recipes = holders.stream().map(h -> RecipeInfo.create(h.id(), h.value(), h.value() instanceof ShapedRecipe rcp ? LegacyCraftingMenu.updateShapedIngredients(new ArrayList<>(emptyGrid), LegacyCraftingMenu.getRecipeOptionalIngredients(rcp), gridDimension, rcp.getWidth(), rcp.getHeight()) : h.value() instanceof ShapelessRecipe r ? LegacyCraftingMenu.getRecipeOptionalIngredients(r) : Collections.emptyList(), CRAFTING_RESULTS.computeIfAbsent(h.id().location(), id -> h.value().isSpecial() ? ItemStack.EMPTY : h.value().assemble(CraftingInput.EMPTY, registryAccess)))).filter(h -> h.getOptionalIngredients().size() <= gridSize).toList();
+            CRAFTING_BY_GRID.put(gridDimension, entry = new Entry<>(recipes, new RecipeIndex<>(recipes), holders, fingerprint(holders)));
+        }
+        return entry;
+    }
+
+    public static synchronized Entry<StonecutterRecipe> stonecutting(RegistryAccess registryAccess) {
+        validate(registryAccess);
+        var holders = CommonRecipeManager.byType(RecipeType.STONECUTTING);
+        if (stonecutting != null && stonecutting.source != holders && stonecutting.fingerprint == fingerprint(holders))
+            stonecutting = stonecutting.withSource(holders);
+        if (stonecutting == null || stonecutting.source != holders) {
+            List<RecipeInfo<StonecutterRecipe>> recipes = holders.stream().map(h -> RecipeInfo.create(h.id(), h.value(), LegacyCraftingMenu.getRecipeOptionalIngredients(h.value()), h.value().assemble(null, registryAccess))).toList();
+            stonecutting = new Entry<>(recipes, new RecipeIndex<>(recipes), holders, fingerprint(holders));
+        }
+        return stonecutting;
+    }
+
+    private static void validate(RegistryAccess registryAccess) {
+        if (lastRegistryAccess != registryAccess) {
+            clear();
+            lastRegistryAccess = registryAccess;
+        }
+    }
+
+    private static synchronized void clear() {
+        CRAFTING_RESULTS.clear();
+        CRAFTING_BY_GRID.clear();
+        stonecutting = null;
+        lastRegistryAccess = null;
+    }
+
+    public static void invalidate() {
+        clear();
+        if (Minecraft.getInstance().level == null) return;
+        RegistryAccess registryAccess = Minecraft.getInstance().level.registryAccess();
+        CompletableFuture.runAsync(() -> {
+            crafting(registryAccess, 2);
+            crafting(registryAccess, 3);
+            stonecutting(registryAccess);
+        }, Util.backgroundExecutor());
+    }
+
+    private static int fingerprint(Collection<? extends RecipeHolder<?>> holders) {
+        int hash = holders.size();
+        for (RecipeHolder<?> holder : holders) {
+            hash = 31 * hash + holder.id().hashCode();
+            hash = 31 * hash + System.identityHashCode(holder.value());
+        }
+        return hash;
+    }
+
+    public record Entry<T>(List<RecipeInfo<T>> recipes, RecipeIndex<T> index, Collection<?> source, int fingerprint) {
+        Entry<T> withSource(Collection<?> source) {
+            return new Entry<>(recipes, index, source, fingerprint);
+        }
+    }
+}
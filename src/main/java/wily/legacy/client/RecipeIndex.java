@@ -0,0 +1,52 @@
+package wily.legacy.client;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+
+import java.util.*;
+
+public class RecipeIndex<T> {
+    private final List<RecipeInfo<T>> recipes;
+    private final Map<ResourceLocation, RecipeInfo<T>> byId = new HashMap<>();
+    private final Map<Item, List<RecipeInfo<T>>> byResultItem = new HashMap<>();
+    private final Map<TagKey<Item>, List<RecipeInfo<T>>> byItemTag = new HashMap<>();
+    private final Map<TagKey<Block>, List<RecipeInfo<T>>> byBlockTag = new HashMap<>();
+
+    public RecipeIndex(List<RecipeInfo<T>> recipes) {
+        this.recipes = recipes;
+        Map<Item, List<TagKey<Item>>> itemTagsCache = new HashMap<>();
+        Map<Item, List<TagKey<Block>>> blockTagsCache = new HashMap<>();
+        for (RecipeInfo<T> recipe : recipes) {
+            byId.putIfAbsent(recipe.getId(), recipe);
+            Item item = recipe.getResultItem().getItem();
+            byResultItem.computeIfAbsent(item, i -> new ArrayList<>()).add(recipe);
+            for (TagKey<Item> tag : itemTagsCache.computeIfAbsent(item, i -> i.builtInRegistryHolder().tags().toList()))
+                byItemTag.computeIfAbsent(tag, t -> new ArrayList<>()).add(recipe);
+            for (TagKey<Block> tag : blockTagsCache.computeIfAbsent(item, i -> i instanceof BlockItem b ? b.getBlock().builtInRegistryHolder().tags().toList() : Collections.emptyList()))
+                byBlockTag.computeIfAbsent(tag, t -> new ArrayList<>()).add(recipe);
+        }
+    }
+
+    public List<RecipeInfo<T>> all() {
+        return recipes;
+    }
+
+    public Optional<RecipeInfo<T>> byId(ResourceLocation id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public List<RecipeInfo<T>> byResultItem(Item item) {
+        return byResultItem.getOrDefault(item, Collections.emptyList());
+    }
+
+    public List<RecipeInfo<T>> byItemTag(TagKey<Item> tag) {
+        return byItemTag.getOrDefault(tag, Collections.emptyList());
+    }
+
+    public List<RecipeInfo<T>> byBlockTag(TagKey<Block> tag) {
+        return byBlockTag.getOrDefault(tag, Collections.emptyList());
+    }
+}
@@ -161,6 +161,22 @@ public interface RecipeInfo<T> extends RegisterListing.Holder<T> {
             }
         }
 
+        default <T> void addRecipes(RecipeIndex<T> index, Consumer<RecipeInfo<T>> recipeAdder) {
+            addRecipes(index, r -> true, recipeAdder);
+        }
+
+        default <T> void addRecipes(RecipeIndex<T> index, Predicate<RecipeInfo<T>> validRecipe, Consumer<RecipeInfo<T>> recipeAdder) {
+            addRecipes(() -> index.all().stream().filter(validRecipe).iterator(), recipeAdder);
+        }
+
+        default <T> void addIndexedRecipes(List<RecipeInfo<T>> matches, Predicate<RecipeInfo<T>> validRecipe, Consumer<RecipeInfo<T>> recipeAdder) {
+            for (RecipeInfo<T> match : matches) {
+                if (!validRecipe.test(match)) continue;
+                recipeAdder.accept(match);
+                if (onlyFirstMatch()) return;
+            }
+        }
+
         default boolean onlyFirstMatch() {
             return false;
         }
@@ -174,6 +190,11 @@ public interface RecipeInfo<T> extends RegisterListing.Holder<T> {
         record BlockTag(TagKey<Block> tag) implements Filter {
             public static final Codec<BlockTag> CODEC = TagKey.codec(Registries.BLOCK).xmap(BlockTag::new, BlockTag::tag);
 
+            @Override
+            public <T> void addRecipes(RecipeIndex<T> index, Predicate<RecipeInfo<T>> validRecipe, Consumer<RecipeInfo<T>> recipeAdder) {
+                addIndexedRecipes(index.byBlockTag(tag), validRecipe, recipeAdder);
+            }
+
             @Override
             public boolean test(RecipeInfo<?> h) {
                 return h.getResultItem().getItem() instanceof BlockItem i && i.getBlock().builtInRegistryHolder().is(tag);
@@ -193,6 +214,11 @@ public interface RecipeInfo<T> extends RegisterListing.Holder<T> {
         record ItemTag(TagKey<Item> tag) implements Filter {
             public static final Codec<ItemTag> CODEC = TagKey.codec(Registries.ITEM).xmap(ItemTag::new, ItemTag::tag);
 
+            @Override
+            public <T> void addRecipes(RecipeIndex<T> index, Predicate<RecipeInfo<T>> validRecipe, Consumer<RecipeInfo<T>> recipeAdder) {
+                addIndexedRecipes(index.byItemTag(tag), validRecipe, recipeAdder);
+            }
+
             @Override
             public boolean test(RecipeInfo<?> h) {
                 return h.getResultItem().is(tag);
@@ -219,6 +245,13 @@ public interface RecipeInfo<T> extends RegisterListing.Holder<T> {
                 if (value != null) value.addRecipes(validRecipes, recipeAdder);
             }
 
+            @Override
+            public <T> void addRecipes(RecipeIndex<T> index, Predicate<RecipeInfo<T>> validRecipe, Consumer<RecipeInfo<T>> recipeAdder) {
+                index.byId(id).filter(validRecipe).ifPresent(recipeAdder);
+                IdOverride<T> value = ID_RECIPE_INFO_OVERRIDES.get(id);
+                if (value != null) value.addRecipes(() -> index.all().stream().filter(validRecipe).iterator(), recipeAdder);
+            }
+
             @Override
             public boolean onlyFirstMatch() {
                 return true;
@@ -248,6 +281,11 @@ public interface RecipeInfo<T> extends RegisterListing.Holder<T> {
                 this(id, true);
             }
 
+            @Override
+            public <T> void addRecipes(RecipeIndex<T> index, Predicate<RecipeInfo<T>> validRecipe, Consumer<RecipeInfo<T>> recipeAdder) {
+                BuiltInRegistries.ITEM.getOptional(id).ifPresent(item -> addIndexedRecipes(index.byResultItem(item), validRecipe, recipeAdder));
+            }
+
             @Override
             public boolean test(RecipeInfo<?> h) {
                 return BuiltInRegistries.ITEM.getKey(h.getResultItem().getItem()).equals(id);
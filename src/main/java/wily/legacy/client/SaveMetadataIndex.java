@@ -0,0 +1,192 @@
+package wily.legacy.client;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.screens.FaviconTexture;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.storage.LevelSummary;
+import net.minecraft.world.level.validation.ContentValidationException;
+import net.minecraft.world.level.validation.ForbiddenSymlinkInfo;
+import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.Nullable;
+import wily.legacy.Legacy4J;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+public class SaveMetadataIndex {
+    public static final int MAX_ENTRIES = 256;
+    private static final Codec<Map<String, Entry>> CODEC = Codec.unboundedMap(Codec.STRING, Entry.CODEC);
+    private static final Map<String, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private static final Map<String, CompletableFuture<?>> PENDING_SIZES = new HashMap<>();
+    private static final Map<String, Icon> ICONS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Icon> eldest) {
+            if (size() <= MAX_ENTRIES) return false;
+            eldest.getValue().texture.close();
+            return true;
+        }
+    };
+    private static boolean loaded = false;
+
+    public static synchronized void update(List<LevelSummary> summaries) {
+        load();
+        for (LevelSummary summary : summaries) {
+            long version = getVersion(summary);
+            Entry entry = ENTRIES.get(summary.getLevelId());
+            if (entry == null || entry.version != version) computeSize(summary, version);
+            Icon icon = ICONS.get(summary.getLevelId());
+            if (icon != null && icon.version != summary.getLastPlayed()) {
+                ICONS.remove(summary.getLevelId());
+                icon.texture.close();
+            }
+        }
+    }
+
+    @Nullable
+    public static synchronized Long getSize(LevelSummary summary) {
+        load();
+        Entry entry = ENTRIES.get(summary.getLevelId());
+        if (entry != null) return entry.size;
+        computeSize(summary, getVersion(summary));
+        return null;
+    }
+
+    public static synchronized ResourceLocation getIconLocation(LevelSummary summary) {
+        long version = summary.getLastPlayed();
+        Icon icon = ICONS.get(summary.getLevelId());
+        if (icon == null || icon.version != version) {
+            if (icon != null) icon.texture.close();
+            Minecraft minecraft = Minecraft.getInstance();
+            FaviconTexture texture = FaviconTexture.forWorld(minecraft.getTextureManager(), summary.getLevelId());
+            ICONS.put(summary.getLevelId(), icon = new Icon(texture, version));
+            Icon loadingIcon = icon;
+            CompletableFuture.supplyAsync(() -> readIcon(summary), Util.ioPool()).thenAcceptAsync(image -> {
+                synchronized (SaveMetadataIndex.class) {
+                    if (ICONS.get(summary.getLevelId()) != loadingIcon) {
+                        if (image != null) image.close();
+                        return;
+                    }
+                    if (image != null) loadingIcon.texture.upload(image);
+                    else loadingIcon.texture.clear();
+                }
+            }, minecraft);
+        }
+        return icon.texture.textureLocation();
+    }
+
+    public static synchronized void releaseIcons() {
+        ICONS.values().forEach(i -> i.texture.close());
+        ICONS.clear();
+    }
+
+    private static long getVersion(LevelSummary summary) {
+        long directoryModified = 0;
+        try {
+            directoryModified = Files.getLastModifiedTime(getLevelDirectory(summary.getLevelId())).toMillis();
+        } catch (IOException ignored) {
+        }
+        return 31 * summary.getLastPlayed() + directoryModified;
+    }
+
+    private static Path getLevelDirectory(String levelId) {
+        return Minecraft.getInstance().getLevelSource().getBaseDir().resolve(levelId);
+    }
+
+    private static void computeSize(LevelSummary summary, long version) {
+        String levelId = summary.getLevelId();
+        if (PENDING_SIZES.containsKey(levelId)) return;
+        CompletableFuture<Long> future = CompletableFuture.supplyAsync(() -> FileUtils.sizeOfDirectory(getLevelDirectory(levelId).toFile()), Util.backgroundExecutor());
+        PENDING_SIZES.put(levelId, future);
+        future.whenComplete((size, throwable) -> {
+            synchronized (SaveMetadataIndex.class) {
+                PENDING_SIZES.remove(levelId);
+                if (size != null) ENTRIES.put(levelId, new Entry(version, size));
+                if (PENDING_SIZES.isEmpty()) save();
+            }
+        });
+    }
+
+    @Nullable
+    private static NativeImage readIcon(LevelSummary summary) {
+        Path iconFile = summary.getIcon();
+        try {
+            BasicFileAttributes basicFileAttributes = Files.readAttributes(iconFile, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            if (basicFileAttributes.isSymbolicLink()) {
+                List<ForbiddenSymlinkInfo> list = /*? if >1.20.2 {*/Minecraft.getInstance().directoryValidator().validateSymlink(iconFile)/*?} else {*//*new ArrayList<>()*//*?}*/;
+                //? if <=1.20.2
+                /*Minecraft.getInstance().getLevelSource().getWorldDirValidator().validateSymlink(iconFile,list);*/
+                if (!list.isEmpty()) {
+                    Legacy4J.LOGGER.warn("{}", ContentValidationException.getMessage(iconFile, list));
+                    return null;
+                }
+                basicFileAttributes = Files.readAttributes(iconFile, BasicFileAttributes.class);
+            }
+            if (!basicFileAttributes.isRegularFile()) return null;
+        } catch (NoSuchFileException noSuchFileException) {
+            return null;
+        } catch (IOException iOException) {
+            Legacy4J.LOGGER.error("could not validate symlink", iOException);
+            return null;
+        }
+        try (InputStream inputStream = Files.newInputStream(iconFile)) {
+            return NativeImage.read(inputStream);
+        } catch (Throwable throwable) {
+            Legacy4J.LOGGER.error("Invalid icon for world {}", summary.getLevelId(), throwable);
+            return null;
+        }
+    }
+
+    private static Path getIndexFile() {
+        return Minecraft.getInstance().gameDirectory.toPath().resolve("legacy_save_index.json");
+    }
+
+    private static void load() {
+        if (loaded) return;
+        loaded = true;
+        Path file = getIndexFile();
+        if (!Files.isRegularFile(file)) return;
+        try (BufferedReader bufferedReader = Files.newBufferedReader(file)) {
+            CODEC.parse(JsonOps.INSTANCE, JsonParser.parseReader(bufferedReader)).resultOrPartial(error -> Legacy4J.LOGGER.warn("Failed to parse {}: {}", file, error)).ifPresent(ENTRIES::putAll);
+        } catch (Exception e) {
+            Legacy4J.LOGGER.warn("Failed to load save metadata index: {}", e.getMessage());
+        }
+    }
+
+    private static void save() {
+        Map<String, Entry> entries = new HashMap<>(ENTRIES);
+        CompletableFuture.runAsync(() -> {
+            JsonElement json = CODEC.encodeStart(JsonOps.INSTANCE, entries).resultOrPartial(error -> Legacy4J.LOGGER.warn("Failed to encode save metadata index: {}", error)).orElse(null);
+            if (json == null) return;
+            try (BufferedWriter writer = Files.newBufferedWriter(getIndexFile())) {
+                writer.write(json.toString());
+            } catch (IOException e) {
+                Legacy4J.LOGGER.warn("Failed to save save metadata index: {}", e.getMessage());
+            }
+        }, Util.ioPool());
+    }
+
+    public record Entry(long version, long size) {
+        public static final Codec<Entry> CODEC = RecordCodecBuilder.create(i -> i.group(Codec.LONG.fieldOf("version").forGetter(Entry::version), Codec.LONG.fieldOf("size").forGetter(Entry::size)).apply(i, Entry::new));
+    }
+
+    private record Icon(FaviconTexture texture, long version) {
+    }
+}
@@ -108,7 +108,7 @@ public interface Controller {
     default void connect(ControllerManager manager) {
         manager.setControllerTheLastInput(true);
         if (!manager.isCursorDisabled && manager.minecraft.screen != null)
-            manager.minecraft.execute(() -> manager.minecraft.screen.repositionElements());
+            manager.execute(() -> manager.minecraft.screen.repositionElements());
         addOrSetControllerToast(CONTROLLER_DETECTED);
     }
 
@@ -228,6 +228,13 @@ public interface Controller {
 
         boolean update();
 
+        /**
+         * @return If a controller has been connected or disconnected since the last call
+         */
+        default boolean hasConnectionChanged() {
+            return false;
+        }
+
         /**
          * Manages the connected controller bindings
          *
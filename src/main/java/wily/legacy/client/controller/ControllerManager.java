@@ -2,6 +2,7 @@ package wily.legacy.client.controller;
 
 import com.mojang.blaze3d.platform.InputConstants;
 import com.mojang.blaze3d.platform.Window;
+import net.minecraft.Util;
 import net.minecraft.client.InputType;
 import net.minecraft.client.KeyMapping;
 import net.minecraft.client.Minecraft;
@@ -23,7 +24,6 @@ import org.lwjgl.glfw.GLFW;
 import wily.factoryapi.FactoryEvent;
 import wily.factoryapi.base.Stocker;
 import wily.factoryapi.util.ListMap;
-import wily.legacy.Legacy4J;
 import wily.legacy.Legacy4JClient;
 import wily.legacy.client.LegacyOptions;
 import wily.legacy.client.LegacyTipManager;
@@ -34,7 +34,6 @@ import wily.legacy.mixin.base.client.MouseHandlerAccessor;
 import wily.legacy.util.client.LegacySoundUtil;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -48,6 +47,9 @@ public class ControllerManager {
     private static final float DIAGONAL_SPEED = 0.4F;
     private static final float ANGLE8 = 45F * Mth.DEG_TO_RAD;
     private static final float ANGLE16 = 22.5F * Mth.DEG_TO_RAD;
+    private static final int MIN_CONNECTION_CHECK_DELAY = 16;
+    private static final int MAX_CONNECTION_CHECK_DELAY = 1000;
+    private static final int MAX_BINDING_UPDATES = 100;
     public Controller connectedController = null;
     public boolean isCursorDisabled = false;
     public boolean resetCursor = false;
@@ -58,6 +60,16 @@ public class ControllerManager {
     protected Minecraft minecraft;
     protected boolean isControllerTheLastInput = false;
     private KeyMapping[] orderedKeyMappings;
+    private KeyMappingDispatch[] keyMappingDispatchTable;
+    private Controller dispatchController;
+    private Controller.Handler lastHandler;
+    private long nextConnectionCheck = 0;
+    private int connectionCheckDelay = MIN_CONNECTION_CHECK_DELAY;
+    private long lastBindingsUpdate = -1;
+    private int pendingBindingUpdates = 0;
+    private long queuedTasksSecond = 0;
+    private int queuedTasks = 0;
+    private int queuedTasksPerSecond = 0;
 
     public static Controller.Handler getHandler() {
         return LegacyOptions.selectedControllerHandler.get();
@@ -80,31 +92,61 @@ public class ControllerManager {
         this.minecraft = minecraft;
         this.orderedKeyMappings = minecraft.options.keyMappings.clone();
         updateCursorInputMode();
+    }
 
-        CompletableFuture.runAsync(() -> new Timer().scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                minecraft.execute(getHandler()::init);
-                if (minecraft.isRunning() && getHandler().update()) {
-                    Setup.EVENT.invoker.accept(ControllerManager.this);
-                    if (!getHandler().isValidController(LegacyOptions.selectedController.get())) {
-                        if (connectedController != null) {
-                            connectedController.disconnect(ControllerManager.this);
-                            safeDisconnect();
-                        }
-                        return;
-                    }
-                    if (connectedController == null && (connectedController = getHandler().getController(LegacyOptions.selectedController.get())) != null)
-                        connectedController.connect(ControllerManager.this);
-                    minecraft.execute(() -> {
-                        if (connectedController != null) getHandler().setup(ControllerManager.this);
-                    });
-                }
+    public void update() {
+        if (minecraft == null || !minecraft.isRunning()) return;
+        Controller.Handler handler = getHandler();
+        handler.init();
+        long millis = Util.getMillis();
+        if (handler != lastHandler || handler.hasConnectionChanged()) {
+            lastHandler = handler;
+            resetConnectionCheck();
+        }
+        if (connectedController == null && millis < nextConnectionCheck) return;
+        if (!handler.update()) return;
+        Setup.EVENT.invoker.accept(this);
+        if (!handler.isValidController(LegacyOptions.selectedController.get())) {
+            if (connectedController != null) {
+                connectedController.disconnect(this);
+                safeDisconnect();
             }
-        }, 0, 1)).exceptionally(t -> {
-            Legacy4J.LOGGER.warn(t.getMessage());
-            return null;
-        });
+            nextConnectionCheck = millis + connectionCheckDelay;
+            connectionCheckDelay = Math.min(connectionCheckDelay * 2, MAX_CONNECTION_CHECK_DELAY);
+            return;
+        }
+        if (connectedController == null && (connectedController = handler.getController(LegacyOptions.selectedController.get())) != null)
+            connectedController.connect(this);
+        if (connectedController != null) {
+            pendingBindingUpdates = lastBindingsUpdate < 0 ? 1 : (int) Mth.clamp(millis - lastBindingsUpdate, 1, MAX_BINDING_UPDATES);
+            lastBindingsUpdate = millis;
+            handler.setup(this);
+        }
+    }
+
+    public void resetConnectionCheck() {
+        nextConnectionCheck = 0;
+        connectionCheckDelay = MIN_CONNECTION_CHECK_DELAY;
+    }
+
+    public void execute(Runnable runnable) {
+        updateQueuedTasks();
+        queuedTasks++;
+        minecraft.execute(runnable);
+    }
+
+    public int getQueuedTasksPerSecond() {
+        updateQueuedTasks();
+        return queuedTasksPerSecond;
+    }
+
+    private void updateQueuedTasks() {
+        long second = Util.getMillis() / 1000;
+        if (second != queuedTasksSecond) {
+            queuedTasksPerSecond = second == queuedTasksSecond + 1 ? queuedTasks : 0;
+            queuedTasks = 0;
+            queuedTasksSecond = second;
+        }
     }
 
     public void setPointerPos(double x, double y) {
@@ -138,6 +180,7 @@ public class ControllerManager {
         if (isCursorDisabled && !getCursorMode().isNever()) enableCursor();
         updateBindings(Controller.EMPTY);
         connectedController = null;
+        lastBindingsUpdate = -1;
     }
 
     public void connectTo(int jid) {
@@ -165,14 +208,42 @@ public class ControllerManager {
     }
 
     public synchronized void updateBindings() {
-        updateBindings(minecraft.isWindowActive() ? connectedController : Controller.EMPTY);
+        Controller controller = minecraft.isWindowActive() ? connectedController : Controller.EMPTY;
+        if (controller.hasLED())
+            controller.setLED(
+                    LegacyOptions.controllerLedRed.get().byteValue(),
+                    LegacyOptions.controllerLedGreen.get().byteValue(),
+                    LegacyOptions.controllerLedBlue.get().byteValue()
+            );
+        for (int i = 0; i < Math.max(1, pendingBindingUpdates); i++) updateBindings(controller);
+        pendingBindingUpdates = 0;
+    }
+
+    public void invalidateKeyMappingDispatch() {
+        keyMappingDispatchTable = null;
+    }
+
+    private KeyMappingDispatch[] getKeyMappingDispatchTable(Controller controller) {
+        if (keyMappingDispatchTable == null || dispatchController != controller) {
+            dispatchController = controller;
+            Arrays.sort(orderedKeyMappings, Comparator.comparingInt(mapping -> LegacyKeyMapping.of(mapping).getBinding() == null ? 2 : LegacyKeyMapping.of(mapping).getBinding().isSpecial() ? 0 : 1));
+            Map<ControllerBinding<?>, List<KeyMapping>> keyMappingsByBinding = new LinkedHashMap<>();
+            for (KeyMapping keyMapping : orderedKeyMappings) {
+                ControllerBinding<?> binding = LegacyKeyMapping.of(keyMapping).getBinding();
+                if (binding == null) break;
+                keyMappingsByBinding.computeIfAbsent(binding, b -> new ArrayList<>()).add(keyMapping);
+            }
+            keyMappingDispatchTable = keyMappingsByBinding.entrySet().stream().map(e -> new KeyMappingDispatch(e.getKey(), e.getValue().toArray(KeyMapping[]::new))).toArray(KeyMappingDispatch[]::new);
+        }
+        return keyMappingDispatchTable;
     }
 
     public synchronized void updateBindings(Controller controller) {
-        Arrays.sort(orderedKeyMappings, Comparator.comparingInt(mapping -> LegacyKeyMapping.of(mapping).getBinding() == null ? 2 : LegacyKeyMapping.of(mapping).getBinding().isSpecial() ? 0 : 1));
+        KeyMappingDispatch[] dispatchTable = getKeyMappingDispatchTable(controller);
         for (ControllerBinding<?> binding : ControllerBinding.map.values()) {
             BindingState state = binding.state();
             state.update(controller);
+            if (!state.pressed && !state.released) continue;
             BindingUpdate.EVENT.invoker.accept(state);
             if (LegacyTipManager.getActualTip() != null) LegacyTipManager.getActualTip().bindingStateTick(state);
 
@@ -183,13 +254,6 @@ public class ControllerManager {
 
             if (getCursorMode().isAuto() && state.pressed && !isCursorDisabled) tryDisableCursor();
 
-			if (controller.hasLED())
-                controller.setLED(
-                        LegacyOptions.controllerLedRed.get().byteValue(),
-                        LegacyOptions.controllerLedGreen.get().byteValue(),
-                        LegacyOptions.controllerLedBlue.get().byteValue()
-                );
-
             if (state.is(ControllerBinding.START) && state.justPressed)
                 if (minecraft.screen == null) minecraft.pauseGame(false);
                 else if (minecraft.screen instanceof AbstractContainerScreen<?> || minecraft.screen instanceof PauseScreen)
@@ -306,21 +370,23 @@ public class ControllerManager {
             }
         }
 
-        for (KeyMapping keyMapping : orderedKeyMappings) {
-            if (LegacyKeyMapping.of(keyMapping).getBinding() == null) break;
-            BindingState state = LegacyKeyMapping.of(keyMapping).getBinding().state();
-            Screen screen;
-            if (this.minecraft.screen == null || (screen = this.minecraft.screen) instanceof PauseScreen/*? if >1.20.1 {*/ && !((PauseScreen) screen).showsPauseMenu()/*?}*/) {
-                if (state.is(ControllerBinding.START) && state.pressed) {
-                    keyMapping.setDown(false);
-                } else {
-                    if (state.canClick()) keyMapping.clickCount++;
-                    if (state.pressed && state.canDownKeyMapping(keyMapping)) keyMapping.setDown(true);
-                    else if (state.canReleaseKeyMapping(keyMapping)) keyMapping.setDown(false);
-                    if (state.pressed) {
-                        if (state.canBlock(keyMapping)) state.block();
-                        else if (keyMapping == minecraft.options.keyAttack)
-                            state.onceClick(-state.getDefaultDelay() * (minecraft.player.getAbilities().invulnerable ? 3 : 5));
+        for (KeyMappingDispatch dispatch : dispatchTable) {
+            BindingState state = dispatch.binding().state();
+            if (!state.pressed && !state.released) continue;
+            for (KeyMapping keyMapping : dispatch.keyMappings()) {
+                Screen screen;
+                if (this.minecraft.screen == null || (screen = this.minecraft.screen) instanceof PauseScreen/*? if >1.20.1 {*/ && !((PauseScreen) screen).showsPauseMenu()/*?}*/) {
+                    if (state.is(ControllerBinding.START) && state.pressed) {
+                        keyMapping.setDown(false);
+                    } else {
+                        if (state.canClick()) keyMapping.clickCount++;
+                        if (state.pressed && state.canDownKeyMapping(keyMapping)) keyMapping.setDown(true);
+                        else if (state.canReleaseKeyMapping(keyMapping)) keyMapping.setDown(false);
+                        if (state.pressed) {
+                            if (state.canBlock(keyMapping)) state.block();
+                            else if (keyMapping == minecraft.options.keyAttack)
+                                state.onceClick(-state.getDefaultDelay() * (minecraft.player.getAbilities().invulnerable ? 3 : 5));
+                        }
                     }
                 }
             }
@@ -498,6 +564,9 @@ public class ControllerManager {
         if (!minecraft.mouseHandler.isMouseGrabbed()) setCursorInputMode(!LegacyOptions.hasSystemCursor());
     }
 
+    private record KeyMappingDispatch(ControllerBinding<?> binding, KeyMapping[] keyMappings) {
+    }
+
     interface Setup extends Consumer<ControllerManager> {
         FactoryEvent<Setup> EVENT = new FactoryEvent<>(e -> m -> e.invokeAll(l -> l.accept(m)));
     }
@@ -16,6 +16,7 @@ public class GLFWControllerHandler implements Controller.Handler {
     public static final Component TITLE = Component.literal("GLFW");
     private static final GLFWControllerHandler INSTANCE = new GLFWControllerHandler();
     private boolean init = false;
+    private volatile boolean connectionChanged = false;
 
     public static GLFWControllerHandler getInstance() {
         return INSTANCE;
@@ -30,10 +31,18 @@ public class GLFWControllerHandler implements Controller.Handler {
     public void init() {
         if (!init) {
             tryDownloadAndApplyNewMappings();
+            GLFW.glfwSetJoystickCallback((jid, event) -> connectionChanged = true);
             init = true;
         }
     }
 
+    @Override
+    public boolean hasConnectionChanged() {
+        boolean changed = connectionChanged;
+        connectionChanged = false;
+        return changed;
+    }
+
     @Override
     public boolean update() {
         return true;
@@ -79,6 +79,7 @@ import wily.factoryapi.util.FactoryItemUtil;
 import wily.legacy.Legacy4J;
 import wily.legacy.Legacy4JClient;
 import wily.legacy.block.entity.WaterCauldronBlockEntity;
+import wily.legacy.client.BoundedCache;
 import wily.legacy.client.CommonColor;
 import wily.legacy.client.ControlType;
 import wily.legacy.client.LegacyOptions;
@@ -106,9 +107,9 @@ import static net.minecraft.world.level.block.JukeboxBlock.HAS_RECORD;
 public interface ControlTooltip {
     String CONTROL_TOOLTIPS = "control_tooltips";
 
-    BiFunction<String, Style, ComponentIcon> CONTROL_ICON_FUNCTION = Util.memoize((s, style) -> ComponentIcon.of(Component.literal(s).withStyle(style)));
-    Function<Icon[], Icon> COMPOUND_ICON_FUNCTION = Util.memoize(icons -> (CompoundIcon) () -> icons);
-    Function<String, MutableComponent> CONTROL_ACTION_CACHE = Util.memoize(s -> Component.translatable(s));
+    BiFunction<String, Style, ComponentIcon> CONTROL_ICON_FUNCTION = BoundedCache.memoize("control_icons", 512, (s, style) -> ComponentIcon.of(Component.literal(s).withStyle(style)));
+    Function<Icon[], Icon> COMPOUND_ICON_FUNCTION = BoundedCache.memoize("compound_icons", 256, icons -> (CompoundIcon) () -> icons);
+    Function<String, MutableComponent> CONTROL_ACTION_CACHE = BoundedCache.memoize("control_actions", 512, s -> Component.translatable(s));
 
     String MOUSE_BASE_CHAR = "\uC002";
     String MOUSE_BASE_FOCUSED_CHAR = "\uC003";
@@ -119,7 +120,7 @@ public interface ControlTooltip {
     Component PLUS = Component.literal("+");
     ComponentIcon SPACE_ICON = ComponentIcon.of(SPACE);
     ComponentIcon PLUS_ICON = ComponentIcon.of(PLUS);
-    Function<ComponentIcon[], ComponentIcon> COMPOUND_COMPONENT_ICON_FUNCTION = Util.memoize(CompoundComponentIcon::new);
+    Function<ComponentIcon[], ComponentIcon> COMPOUND_COMPONENT_ICON_FUNCTION = BoundedCache.memoize("compound_component_icons", 256, CompoundComponentIcon::new);
     Map<String, ArbitrarySupplier<ComponentIcon>> commonIcons = new HashMap<>();
     ArbitrarySupplier<ComponentIcon> PLAYER_MOVEMENT = registerCommonComponentIcon("player_movement", () -> ControlType.getActiveType().isKbm() ? CompoundComponentIcon.of(getKeyIcon(InputConstants.KEY_W), getKeyIcon(InputConstants.KEY_A), getKeyIcon(InputConstants.KEY_S), getKeyIcon(InputConstants.KEY_D)) : ControllerBinding.LEFT_STICK.getIcon());
     ArbitrarySupplier<ComponentIcon> MENU_QUICK_ACTION = registerCommonComponentIcon("menu_quick_action", () -> ControlType.getActiveType().isKbm() ? CompoundComponentIcon.of(getKeyIcon(InputConstants.MOUSE_BUTTON_LEFT), PLUS_ICON, getKeyIcon(InputConstants.KEY_LSHIFT)) : ControllerBinding.UP_BUTTON.getIcon());
@@ -39,6 +39,7 @@ import wily.legacy.Legacy4J;
 import wily.legacy.Legacy4JClient;
 import wily.legacy.client.CommonColor;
 import wily.legacy.client.ControlType;
+import wily.legacy.client.LeaderboardIndex;
 import wily.legacy.client.LegacyOptions;
 import wily.legacy.client.controller.ControllerBinding;
 import wily.legacy.network.PlayerInfoSync;
@@ -67,6 +68,7 @@ public class LeaderboardsScreen extends PanelVListScreen {
     protected int lastStatsInScreen = 0;
     protected int page = 0;
     protected int updateTimer = 0;
+    protected boolean requestedPlayerInfos = false;
     protected List<LegacyPlayerInfo> actualRankBoard = Collections.emptyList();
 
     public LeaderboardsScreen(Screen parent) {
@@ -81,18 +83,13 @@ public class LeaderboardsScreen extends PanelVListScreen {
 
     public static void refreshStatsBoards(Minecraft minecraft) {
         if (minecraft.getConnection() == null) return;
-        statsBoards.forEach(StatsBoard::clear);
         if (Legacy4JClient.hasModOnServer()) {
-            minecraft.getConnection().getOnlinePlayers().stream().map(p -> ((LegacyPlayerInfo) p).getStatsMap()).forEach(o -> o.forEach((s, i) -> {
-                if (i <= 0) return;
-                for (StatsBoard statsBoard : statsBoards) if (statsBoard.add(s)) break;
-
-            }));
+            LeaderboardIndex.rebuild(minecraft.getConnection().getOnlinePlayers().stream().map(p -> (LegacyPlayerInfo) p).toList());
         } else {
+            statsBoards.forEach(StatsBoard::clear);
             minecraft.getConnection().send(new ServerboundClientCommandPacket(ServerboundClientCommandPacket.Action.REQUEST_STATS));
-            minecraft.player.getStats().stats.forEach((s, i) -> {
-                for (StatsBoard statsBoard : statsBoards) if (statsBoard.add(s)) break;
-            });
+            minecraft.player.getStats().stats.forEach((s, i) -> LeaderboardIndex.getStatsBoard(s).ifPresent(b -> b.add(s)));
+            LeaderboardIndex.invalidate();
         }
     }
 
@@ -152,11 +149,36 @@ public class LeaderboardsScreen extends PanelVListScreen {
     public void rebuildRenderableVList(Minecraft minecraft) {
         renderableVList.renderables.clear();
         if (minecraft.getConnection() == null || statsBoards.get(selectedStatBoard).statsList.isEmpty()) return;
-        actualRankBoard = Legacy4JClient.hasModOnServer() && filter.get() != 1 ? minecraft.getConnection().getOnlinePlayers().stream().map(p -> ((LegacyPlayerInfo) p)).filter(info -> info.getStatsMap().object2IntEntrySet().stream().filter(s -> statsBoards.get(selectedStatBoard).statsList.contains(s.getKey())).mapToInt(Object2IntMap.Entry::getIntValue).sum() > 0).sorted(filter.get() == 0 ? Comparator.comparingInt(info -> ((LegacyPlayerInfo) info).getStatsMap().object2IntEntrySet().stream().filter(s -> statsBoards.get(selectedStatBoard).statsList.contains(s.getKey())).mapToInt(Object2IntMap.Entry::getIntValue).sum()).reversed() : Comparator.comparing((LegacyPlayerInfo l) -> l.legacyMinecraft$getProfile().name())).toList() : List.of((LegacyPlayerInfo) minecraft.getConnection().getPlayerInfo(minecraft.player.getUUID()));
+        if (Legacy4JClient.hasModOnServer() && filter.get() != 1) {
+            actualRankBoard = new ArrayList<>();
+            for (LeaderboardIndex.Rank rank : LeaderboardIndex.getRanking(statsBoards.get(selectedStatBoard))) {
+                if (minecraft.getConnection().getPlayerInfo(rank.player()) instanceof LegacyPlayerInfo info) actualRankBoard.add(info);
+            }
+        } else actualRankBoard = List.of((LegacyPlayerInfo) minecraft.getConnection().getPlayerInfo(minecraft.player.getUUID()));
         for (int i = 0; i < actualRankBoard.size(); i++) {
             LegacyPlayerInfo info = actualRankBoard.get(i);
             String rank = i + 1 + "";
             renderableVList.renderables.add(new AbstractWidget(0, 0, 551, 20, Component.literal(info.legacyMinecraft$getProfile().name())) {
+                private final List<Component> values = new ArrayList<>();
+                private int valuesPage = -1;
+                private int valuesVersion = -1;
+
+                private List<Component> getValues() {
+                    StatsBoard board = statsBoards.get(selectedStatBoard);
+                    int count = Math.min(statsInScreen, board.statsList.size() - page);
+                    if (valuesPage != page || valuesVersion != LeaderboardIndex.getVersion() || values.size() != count) {
+                        valuesPage = page;
+                        valuesVersion = LeaderboardIndex.getVersion();
+                        values.clear();
+                        Object2IntMap<Stat<?>> stats = Legacy4JClient.hasModOnServer() ? info.getStatsMap() : minecraft.player.getStats().stats;
+                        for (int index = page; index < page + count; index++) {
+                            Stat<?> stat = board.statsList.get(index);
+                            values.add(ControlTooltip.CONTROL_ICON_FUNCTION.apply(stat.format(stats.getInt(stat)), Style.EMPTY).getComponent());
+                        }
+                    }
+                    return values;
+                }
+
                 @Override
                 protected void renderWidget(GuiGraphics guiGraphics, int i, int j, float f) {
                     int y = getY() + (getHeight() - font.lineHeight) / 2 + 1;
@@ -165,18 +187,15 @@ public class LeaderboardsScreen extends PanelVListScreen {
                         guiGraphics.drawString(font, rank, getX() + accessor.getInteger(renderableVList.name + ".buttonRank.x", 40) - font.width(rank) / 2, y, LegacyRenderUtil.getDefaultTextColor(!isHoveredOrFocused()));
                         guiGraphics.drawString(font, getMessage(), getX() + accessor.getInteger(renderableVList.name + ".buttonUsername.x", 120)  - (font.width(getMessage())) / 2, y, LegacyRenderUtil.getDefaultTextColor(!isHoveredOrFocused()));
 
-                        int added = 0;
+                        List<Component> values = getValues();
                         Component hoveredValue = null;
-                        for (int index = page; index < statsBoards.get(selectedStatBoard).statsList.size(); index++) {
-                            if (added >= statsInScreen) break;
-                            Stat<?> stat = statsBoards.get(selectedStatBoard).statsList.get(index);
-                            Component value = ControlTooltip.CONTROL_ICON_FUNCTION.apply(stat.format((Legacy4JClient.hasModOnServer() ? info.getStatsMap() : minecraft.player.getStats().stats).getInt(stat)), Style.EMPTY).getComponent();
-                            SimpleLayoutRenderable renderable = statsBoards.get(selectedStatBoard).renderables.get(index);
+                        for (int added = 0; added < values.size(); added++) {
+                            Component value = values.get(added);
+                            SimpleLayoutRenderable renderable = statsBoards.get(selectedStatBoard).renderables.get(page + added);
                             int w = font.width(value);
                             LegacyRenderUtil.renderScrollingString(guiGraphics, font, value, renderable.getX() + Math.max(0, renderable.getWidth() - w) / 2, getY(), renderable.getX() + Math.min(renderable.getWidth(), (renderable.getWidth() - w) / 2 + getWidth()), getY() + getHeight(), LegacyRenderUtil.getDefaultTextColor(!isHoveredOrFocused()), true);
                             if (LegacyRenderUtil.isMouseOver(i, j, renderable.getX() + Math.max(0, renderable.getWidth() - w) / 2, getY(), Math.min(renderable.getWidth(), w), getHeight()))
                                 hoveredValue = value;
-                            added++;
                         }
                         if (hoveredValue != null) guiGraphics.setTooltipForNextFrame(font, hoveredValue, i, j);
                     });
@@ -196,8 +215,10 @@ public class LeaderboardsScreen extends PanelVListScreen {
         super.tick();
         if (updateTimer <= 0) {
             updateTimer = 20;
-            if (Legacy4JClient.hasModOnServer()) CommonNetwork.sendToServer(PlayerInfoSync.askAll(minecraft.player));
-            else
+            if (Legacy4JClient.hasModOnServer()) {
+                if (!requestedPlayerInfos) CommonNetwork.sendToServer(PlayerInfoSync.askAll(minecraft.player));
+                requestedPlayerInfos = true;
+            } else
                 minecraft.getConnection().send(new ServerboundClientCommandPacket(ServerboundClientCommandPacket.Action.REQUEST_STATS));
         } else updateTimer--;
     }
@@ -319,6 +340,7 @@ public class LeaderboardsScreen extends PanelVListScreen {
         public final Component displayName;
         public final StatType<?> type;
         public final List<Stat<?>> statsList = new ArrayList<>();
+        protected final Set<Stat<?>> statsSet = new HashSet<>();
         public final List<StatIconOverride<?>> statIconOverrides = new ArrayList<>();
         public List<SimpleLayoutRenderable> renderables = new ArrayList<>();
 
@@ -342,6 +364,7 @@ public class LeaderboardsScreen extends PanelVListScreen {
 
         public void clear() {
             statsList.clear();
+            statsSet.clear();
             renderables.clear();
         }
 
@@ -383,7 +406,7 @@ public class LeaderboardsScreen extends PanelVListScreen {
 
         public boolean add(Stat<?> stat) {
             if (canAdd(stat)) {
-                if (!statsList.contains(stat)) {
+                if (statsSet.add(stat)) {
                     statsList.add(stat);
                     renderables.add(getRenderable(stat));
                 }
@@ -407,7 +430,7 @@ public class LeaderboardsScreen extends PanelVListScreen {
 
         @Override
         public void onResourceManagerReload(ResourceManager resourceManager) {
-
+            LeaderboardIndex.clear();
             IOUtil.getOrderedNamespaces(resourceManager).forEach(name -> resourceManager.getResource(FactoryAPI.createLocation(name, LEADERBOARD_LISTING)).ifPresent(((r) -> {
                 try (BufferedReader bufferedReader = r.openAsReader()) {
                     JsonObject obj = GsonHelper.parse(bufferedReader);
@@ -6,7 +6,6 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.events.GuiEventListener;
 import net.minecraft.client.input.InputWithModifiers;
 import net.minecraft.client.input.KeyEvent;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.CommonComponents;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.Style;
@@ -33,7 +32,6 @@ import wily.factoryapi.base.Stocker;
 import wily.factoryapi.base.client.FactoryGuiGraphics;
 import wily.factoryapi.base.client.UIDefinition;
 import wily.factoryapi.base.network.CommonNetwork;
-import wily.factoryapi.base.network.CommonRecipeManager;
 import wily.factoryapi.util.ModInfo;
 import wily.factoryapi.util.PagedList;
 import wily.legacy.Legacy4J;
@@ -100,14 +98,15 @@ public class LegacyCraftingScreen extends RecipesScreen<LegacyCraftingMenu, Reci
         container = new TransientCraftingContainer(abstractContainerMenu, gridDimension, gridDimension);
         warningSlots = new boolean[gridDimension * gridDimension];
         if (Minecraft.getInstance().level == null) return;
-        CraftingInput input = container.asCraftInput();
-        List<RecipeInfo<CraftingRecipe>> allRecipes = CommonRecipeManager.byType(RecipeType.CRAFTING).stream().map(h -> RecipeInfo.create(h./*? if >1.20.1 {*/id()/*?} else {*//*getId()*//*?}*/, h/*? if >1.20.1 {*/.value()/*?}*/, h/*? if >1.20.1 {*/.value()/*?}*/ instanceof ShapedRecipe rcp ? LegacyCraftingMenu.updateShapedIngredients(new ArrayList<>(ingredientsGrid), LegacyCraftingMenu.getRecipeOptionalIngredients(rcp), gridDimension, rcp.getWidth(), rcp.getHeight()) : h/*? if >1.20.1 {*/.value()/*?}*/ instanceof ShapelessRecipe r ? LegacyCraftingMenu.getRecipeOptionalIngredients(r) : Collections.emptyList(), h/*? if >1.20.1 {*/.value()/*?}*/.isSpecial() ? ItemStack.EMPTY : h/*? if >1.20.1 {*/.value()/*?}*/.assemble(/*? if <1.20.5 {*//*container*//*?} else {*/input/*?}*/, Minecraft.getInstance().level.registryAccess()))).filter(h -> h.getOptionalIngredients().size() <= ingredientsGrid.size()).toList();
+        RecipeCatalog.Entry<CraftingRecipe> catalog = RecipeCatalog.crafting(gridDimension);
+        List<RecipeInfo<CraftingRecipe>> allRecipes = catalog.recipes();
+        RecipeIndex<CraftingRecipe> recipeIndex = catalog.index();
         for (LegacyCraftingTabListing listing : Legacy4JClient.legacyCraftingListingManager.map().values()) {
             List<List<RecipeInfo<CraftingRecipe>>> groups = new ArrayList<>();
             listing.craftings().values().forEach(l -> {
                 if (l.isEmpty()) return;
                 List<RecipeInfo<CraftingRecipe>> group = new ArrayList<>();
-                l.forEach(v -> v.addRecipes(allRecipes, group::add));
+                l.forEach(v -> v.addRecipes(recipeIndex, group::add));
                 group.removeIf(i -> i.isInvalid() || i.getOptionalIngredients().size() > ingredientsGrid.size());
                 if (!group.isEmpty()) groups.add(group);
             });
@@ -239,7 +238,7 @@ public class LegacyCraftingScreen extends RecipesScreen<LegacyCraftingMenu, Reci
         dyeItemButtons.add(craftingButtonByPredicate(Component.translatable("entity.minecraft.item"), i -> i.getItem() instanceof BedItem || (i.getItem() instanceof BlockItem b && b.getBlock() instanceof ShulkerBoxBlock/*? if >=1.21.4 {*/ || i.getItem() instanceof BundleItem/*?}*/), dyeItemUpdateRecipe));
         dyeItemButtons.add(craftingButtonByList(LegacyComponents.COLOR_TAB, dyes, dyeItemUpdateRecipe));
         if (!is2x2)
-            bannerButtons.add(craftingButtonByRecipes(LegacyComponents.CREATE_BANNER_TAB, Arrays.stream(DyeColor.values()).flatMap(c -> allRecipes.stream().filter(new RecipeInfo.Filter.ItemId(BuiltInRegistries.ITEM.getKey(BannerBlock.byColor(c).asItem())))).toList()));
+            bannerButtons.add(craftingButtonByRecipes(LegacyComponents.CREATE_BANNER_TAB, Arrays.stream(DyeColor.values()).flatMap(c -> recipeIndex.byResultItem(BannerBlock.byColor(c).asItem()).stream()).toList()));
         bannerButtons.add(craftingButtonByPredicate(LegacyComponents.COPY_BANNER, i -> i.getItem() instanceof BannerItem && LegacyItemUtil.hasValidPatterns(i), h -> {
             clearIngredients(ingredientsGrid);
             if (bannerButtons.isEmpty() || h.itemIcon.isEmpty()) return;
@@ -368,7 +367,7 @@ public class LegacyCraftingScreen extends RecipesScreen<LegacyCraftingMenu, Reci
 
             @Override
             protected boolean hasItem(ItemStack stack) {
-                return LegacyCraftingScreen.this.canCraft(recipes.get(results.indexOf(stack)).getOptionalIngredients(), false);
+                return recipeAvailability.canCraft(recipes.get(results.indexOf(stack)).getOptionalIngredients());
             }
 
             @Override
@@ -504,7 +503,7 @@ public class LegacyCraftingScreen extends RecipesScreen<LegacyCraftingMenu, Reci
     protected void updateRecipes() {
         if (typeTabList.getIndex() == 0) {
             if (onlyCraftableRecipes)
-                filteredRecipesByGroup = recipesByTab.get(page.get() * getMaxTabCount() + craftingTabList.getIndex()).stream().map(l -> l.stream().filter(r -> RecipeMenu.canCraft(r.getOptionalIngredients(), inventory, menu.getCarried())).toList()).filter(l -> !l.isEmpty()).toList();
+                filteredRecipesByGroup = recipesByTab.get(page.get() * getMaxTabCount() + craftingTabList.getIndex()).stream().map(l -> l.stream().filter(r -> recipeAvailability.canCraft(r.getOptionalIngredients())).toList()).filter(l -> !l.isEmpty()).toList();
             recipeButtons.get(selectedRecipeButton).updateRecipeDisplay();
         } else {
             if (getRecipeButtons().size() > selectedRecipeButton && getRecipeButtons().get(selectedRecipeButton) instanceof CustomCraftingIconHolder h)
@@ -620,9 +619,10 @@ public class LegacyCraftingScreen extends RecipesScreen<LegacyCraftingMenu, Reci
     }
 
     protected boolean canCraft(List<Optional<Ingredient>> ingredients, boolean isFocused) {
+        if (!isFocused) return recipeAvailability.test(ingredients);
         compactItemStackList.clear();
-        RecipeMenu.handleCompactInventoryList(compactItemStackList, inventory, menu.getCarried());
-        return canCraft(compactItemStackList, isFocused ? ingredientsGrid : ingredients, isFocused ? warningSlots : null);
+        recipeAvailability.getIndex().copyInto(compactItemStackList);
+        return canCraft(compactItemStackList, ingredientsGrid, warningSlots);
     }
 
     protected int getMaxTabCount() {
@@ -640,7 +640,8 @@ public class LegacyCraftingScreen extends RecipesScreen<LegacyCraftingMenu, Reci
 
             protected boolean canCraft(RecipeInfo<CraftingRecipe> rcp) {
                 if (rcp == null || onlyCraftableRecipes) return true;
-                return LegacyCraftingScreen.this.canCraft(rcp.getOptionalIngredients(), isFocused() && getFocusedRecipe() == rcp);
+                if (isFocused() && getFocusedRecipe() == rcp) return LegacyCraftingScreen.this.canCraft(rcp.getOptionalIngredients(), true);
+                return recipeAvailability.canCraft(rcp.getOptionalIngredients());
             }
 
             protected List<RecipeInfo<CraftingRecipe>> getRecipes() {
@@ -39,7 +39,6 @@ import wily.legacy.client.controller.BindingState;
 import wily.legacy.client.controller.ControllerBinding;
 import wily.legacy.init.LegacyRegistries;
 import wily.legacy.inventory.LegacyCraftingMenu;
-import wily.legacy.inventory.RecipeMenu;
 import wily.legacy.network.ServerMenuCraftPayload;
 import wily.legacy.util.client.LegacyFontUtil;
 import wily.legacy.util.client.LegacyRenderUtil;
@@ -333,9 +332,10 @@ public class LegacyLoomScreen extends RecipesScreen<LegacyCraftingMenu, RecipeIc
     }
 
     protected boolean canCraft(List<Optional<Ingredient>> ingredients, boolean isFocused) {
+        if (!isFocused) return recipeAvailability.test(ingredients);
         compactInventoryList.clear();
-        RecipeMenu.handleCompactInventoryList(compactInventoryList, Minecraft.getInstance().player.getInventory(), menu.getCarried());
-        return LegacyCraftingScreen.canCraft(compactInventoryList, ingredients, isFocused ? warningSlots : null);
+        recipeAvailability.getIndex().copyInto(compactInventoryList);
+        return LegacyCraftingScreen.canCraft(compactInventoryList, ingredients, warningSlots);
     }
 
     @Override
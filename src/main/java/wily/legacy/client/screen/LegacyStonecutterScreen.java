@@ -1,10 +1,10 @@
 package wily.legacy.client.screen;
 
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.input.InputWithModifiers;
 import net.minecraft.client.input.KeyEvent;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
@@ -12,22 +12,18 @@ import net.minecraft.world.item.crafting.*;
 import net.minecraft.world.item.crafting.StonecutterRecipe;
 import net.minecraft.world.phys.Vec2;
 import wily.factoryapi.base.client.FactoryGuiGraphics;
-import wily.factoryapi.base.network.CommonRecipeManager;
 import wily.legacy.client.CommonColor;
 import wily.legacy.client.LegacyOptions;
+import wily.legacy.client.RecipeCatalog;
 import wily.legacy.client.RecipeInfo;
 import wily.legacy.client.StoneCuttingGroupManager;
 import wily.legacy.inventory.LegacySlotDisplay;
 import wily.legacy.util.*;
 import wily.legacy.inventory.LegacyCraftingMenu;
-import wily.legacy.inventory.RecipeMenu;
 import wily.legacy.util.client.LegacyFontUtil;
 import wily.legacy.util.client.LegacyRenderUtil;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 import static wily.legacy.client.screen.ControlTooltip.*;
 
@@ -35,7 +31,6 @@ import static wily.legacy.client.screen.ControlTooltip.*;
 public class LegacyStonecutterScreen extends RecipesScreen<LegacyCraftingMenu, RecipeIconHolder<StonecutterRecipe>> {
     public static final Vec2 DISPLAY_OFFSET = new Vec2(0.5f, 0);
     public static final Vec2 ALT_DISPLAY_OFFSET = new Vec2(0.4f, 0);
-    protected final List<ItemStack> compactInventoryList = new ArrayList<>();
     protected List<List<RecipeInfo<StonecutterRecipe>>> recipesByGroup = new ArrayList<>();
     protected List<List<RecipeInfo<StonecutterRecipe>>> filteredRecipesByGroup = Collections.emptyList();
     protected List<Optional<Ingredient>> ingredientSlot = Collections.singletonList(Optional.empty());
@@ -43,13 +38,18 @@ public class LegacyStonecutterScreen extends RecipesScreen<LegacyCraftingMenu, R
 
     public LegacyStonecutterScreen(LegacyCraftingMenu abstractContainerMenu, Inventory inventory, Component component) {
         super(abstractContainerMenu, inventory, component);
-        List<RecipeInfo<StonecutterRecipe>> allRecipes = CommonRecipeManager.byType(RecipeType.STONECUTTING).stream().map(h -> RecipeInfo.create(h./*? if >1.20.1 {*/id()/*?} else {*//*getId()*//*?}*/, h/*? if >1.20.1 {*/.value()/*?}*/, LegacyCraftingMenu.getRecipeOptionalIngredients(h/*? if >1.20.1 {*/.value()/*?}*/), h/*? if >1.20.1 {*/.value()/*?}*/.assemble(null, Minecraft.getInstance().level.registryAccess()))).toList();
+        RecipeCatalog.Entry<StonecutterRecipe> catalog = RecipeCatalog.stonecutting();
+        Set<ResourceLocation> groupedRecipes = new HashSet<>();
         StoneCuttingGroupManager.listing.values().forEach(l -> {
             List<RecipeInfo<StonecutterRecipe>> group = new ArrayList<>();
-            l.forEach(v -> v.addRecipes(allRecipes.stream().filter(h -> recipesByGroup.stream().noneMatch(r -> r.contains(h)))::iterator, group::add));
+            l.forEach(v -> v.addRecipes(catalog.index(), h -> !groupedRecipes.contains(h.getId()), h -> {
+                if (groupedRecipes.add(h.getId())) group.add(h);
+            }));
             if (!group.isEmpty()) recipesByGroup.add(group);
         });
-        allRecipes.stream().filter(h -> recipesByGroup.stream().noneMatch(r -> r.contains(h))).forEach(h -> recipesByGroup.add(Collections.singletonList(h)));
+        for (RecipeInfo<StonecutterRecipe> h : catalog.recipes()) {
+            if (groupedRecipes.add(h.getId())) recipesByGroup.add(Collections.singletonList(h));
+        }
         updateRecipes();
     }
 
@@ -142,9 +142,7 @@ public class LegacyStonecutterScreen extends RecipesScreen<LegacyCraftingMenu, R
             @Override
             protected boolean canCraft(RecipeInfo<StonecutterRecipe> rcp) {
                 if (rcp == null || onlyCraftableRecipes) return true;
-                compactInventoryList.clear();
-                RecipeMenu.handleCompactInventoryList(compactInventoryList, Minecraft.getInstance().player.getInventory(), menu.getCarried());
-                return LegacyCraftingScreen.canCraft(compactInventoryList, isFocused() && getFocusedRecipe() == rcp ? ingredientSlot : rcp.getOptionalIngredients(), null);
+                return isFocused() && getFocusedRecipe() == rcp ? recipeAvailability.test(ingredientSlot) : recipeAvailability.canCraft(rcp.getOptionalIngredients());
             }
 
             @Override
@@ -213,7 +211,7 @@ public class LegacyStonecutterScreen extends RecipesScreen<LegacyCraftingMenu, R
     @Override
     protected void updateRecipes() {
         if (onlyCraftableRecipes) {
-            filteredRecipesByGroup = recipesByGroup.stream().map(l -> l.stream().filter(r -> RecipeMenu.canCraft(r.getOptionalIngredients(), inventory, menu.getCarried())).toList()).filter(l -> !l.isEmpty()).toList();
+            filteredRecipesByGroup = recipesByGroup.stream().map(l -> l.stream().filter(r -> recipeAvailability.canCraft(r.getOptionalIngredients())).toList()).filter(l -> !l.isEmpty()).toList();
             recipeButtons.get(selectedRecipeButton).updateRecipeDisplay();
         }
     }
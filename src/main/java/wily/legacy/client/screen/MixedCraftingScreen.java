@@ -49,6 +49,7 @@ import wily.legacy.Legacy4JClient;
 import wily.legacy.client.*;
 import wily.legacy.client.controller.ControllerBinding;
 import wily.legacy.init.LegacyRegistries;
+import wily.legacy.inventory.CraftingInventoryIndex;
 import wily.legacy.inventory.LegacyCraftingMenu;
 import wily.legacy.inventory.LegacySlotDisplay;
 import wily.legacy.inventory.RecipeMenu;
@@ -240,6 +241,7 @@ public class MixedCraftingScreen<T extends AbstractCraftingMenu> extends Recipes
             default -> false;
         }));
         recipesByGroup.clear();
+        CraftingInventoryIndex inventoryIndex = CraftingInventoryIndex.of(inventory, ItemStack.EMPTY);
 
 
         List<RecipeCollection> searchCollections = null;
@@ -283,7 +285,7 @@ public class MixedCraftingScreen<T extends AbstractCraftingMenu> extends Recipes
 
                 if (allowRecipeDisplay) {
                     compactItemStackList.clear();
-                    RecipeMenu.handleCompactInventoryList(compactItemStackList, inventory, ItemStack.EMPTY);
+                    inventoryIndex.copyInto(compactItemStackList);
                     main:
                     for (int i = 0; i < displays.size(); i++) {
                         List<ItemStack> stacks = displays.get(i);
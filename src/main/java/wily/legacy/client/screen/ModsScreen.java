@@ -5,7 +5,6 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.mojang.blaze3d.platform.InputConstants;
 import com.mojang.blaze3d.platform.NativeImage;
-import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
@@ -32,6 +31,7 @@ import wily.factoryapi.base.client.AdvancedTextWidget;
 import wily.factoryapi.base.client.FactoryGuiGraphics;
 import wily.factoryapi.util.FactoryScreenUtil;
 import wily.factoryapi.util.ModInfo;
+import wily.legacy.client.BoundedCache;
 import wily.legacy.client.ControlType;
 import wily.legacy.client.LegacyOptions;
 import wily.legacy.client.PackAlbum;
@@ -47,7 +47,7 @@ import java.util.*;
 import java.util.function.Function;
 
 public class ModsScreen extends PanelVListScreen {
-    public static final Function<ModInfo, SizedLocation> modLogosCache = Util.memoize(mod -> {
+    public static final Function<ModInfo, SizedLocation> modLogosCache = new BoundedCache<ModInfo, SizedLocation>("mod_logos", Math.max(128, FactoryAPIPlatform.getMods().size()), mod -> {
         Optional<String> opt = mod.getLogoFile(100);
         if (opt.isPresent() && mod.containsResource(opt.get()))
             try {
@@ -61,6 +61,9 @@ public class ModsScreen extends PanelVListScreen {
         if (mod.getId().equals("minecraft"))
             defaultLogo = PackAlbum.Selector.getPackIcon(Minecraft.getInstance().getResourcePackRepository().getPack("vanilla"));
         return new SizedLocation(defaultLogo, 1, 1);
+    }, (mod, logo) -> {
+        if (!mod.getId().equals("minecraft") && logo.location().getNamespace().equals(mod.getId()))
+            Minecraft.getInstance().getTextureManager().release(logo.location());
     });
     protected final Panel panelRecess;
     protected final Panel tooltipBox = Panel.tooltipBoxOf(panel, 192);
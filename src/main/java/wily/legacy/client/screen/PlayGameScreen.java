@@ -26,6 +26,7 @@ import wily.legacy.client.CommonColor;
 import wily.legacy.client.ControlType;
 import wily.legacy.client.LegacyOptions;
 import wily.legacy.client.LegacySaveCache;
+import wily.legacy.client.SaveMetadataIndex;
 import wily.legacy.client.screen.compat.FriendsServerRenderableList;
 import wily.legacy.client.controller.ControllerBinding;
 import wily.legacy.util.LegacyComponents;
@@ -158,7 +159,7 @@ public class PlayGameScreen extends PanelVListScreen implements ControlTooltip.E
                 FactoryGuiGraphics.of(guiGraphics).enableScissor(0, 0, panel.width - 24, panel.height - 10);
                 for (LevelSummary level : saveRenderableList.currentlyDisplayedLevels) {
                     Long size;
-                    if ((size = SaveRenderableList.sizeCache.getIfPresent(level)) == null) continue;
+                    if ((size = SaveMetadataIndex.getSize(level)) == null) continue;
                     float scaledSize = Math.max(1, size * (panel.width - 21f) / storage);
                     guiGraphics.pose().pushMatrix();
                     guiGraphics.pose().scale(scaledSize, 1);
@@ -8,6 +8,7 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import wily.factoryapi.base.Stocker;
 import wily.factoryapi.base.client.UIAccessor;
+import wily.legacy.client.RecipeAvailabilityCache;
 import wily.legacy.client.controller.BindingState;
 import wily.legacy.client.controller.Controller;
 import wily.legacy.client.controller.ControllerBinding;
@@ -22,6 +23,7 @@ public abstract class RecipesScreen<T extends AbstractContainerMenu, H extends L
 
     protected final List<H> recipeButtons = new ArrayList<>();
     protected final Inventory inventory;
+    protected final RecipeAvailabilityCache recipeAvailability;
     protected int selectedRecipeButton;
 
     protected final Stocker.Sizeable recipeButtonsOffset = new Stocker.Sizeable(0);
@@ -32,6 +34,7 @@ public abstract class RecipesScreen<T extends AbstractContainerMenu, H extends L
     public RecipesScreen(T menu, Inventory inventory, Component component) {
         super(menu, inventory, component);
         this.inventory = inventory;
+        this.recipeAvailability = new RecipeAvailabilityCache(() -> inventory, menu::getCarried);
         addRecipeButtons();
     }
 
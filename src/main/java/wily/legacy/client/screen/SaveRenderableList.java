@@ -1,11 +1,7 @@
 package wily.legacy.client.screen;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import com.mojang.blaze3d.platform.InputConstants;
-import com.mojang.blaze3d.platform.NativeImage;
 import com.mojang.logging.LogUtils;
 import net.minecraft.ChatFormatting;
 import net.minecraft.CrashReport;
@@ -28,9 +24,6 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.storage.LevelStorageException;
 import net.minecraft.world.level.storage.LevelStorageSource;
 import net.minecraft.world.level.storage.LevelSummary;
-import net.minecraft.world.level.validation.ContentValidationException;
-import net.minecraft.world.level.validation.ForbiddenSymlinkInfo;
-import org.apache.commons.io.FileUtils;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import wily.factoryapi.FactoryAPI;
@@ -40,16 +33,11 @@ import wily.factoryapi.util.FactoryScreenUtil;
 import wily.legacy.Legacy4J;
 import wily.legacy.client.LegacyOptions;
 import wily.legacy.client.LegacySaveCache;
+import wily.legacy.client.SaveMetadataIndex;
 import wily.legacy.util.LegacyComponents;
 import wily.legacy.util.client.LegacyRenderUtil;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.LinkOption;
-import java.nio.file.NoSuchFileException;
-import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -75,52 +63,6 @@ public class SaveRenderableList extends RenderableVList {
     static final Component WORLD_REQUIRES_CONVERSION = Component.translatable("selectWorld.conversion.tooltip").withStyle(ChatFormatting.RED);
     static final Component WORLD_EXPERIMENTAL = Component.translatable("selectWorld.experimental");
     static final Component INCOMPATIBLE_VERSION_TOOLTIP = Component.translatable("selectWorld.incompatible.tooltip").withStyle(ChatFormatting.RED);
-    public static LoadingCache<LevelSummary, Long> sizeCache = CacheBuilder.newBuilder().build(new CacheLoader<>() {
-        @Override
-        public Long load(LevelSummary key) {
-            return FileUtils.sizeOfDirectory(Minecraft.getInstance().getLevelSource().getBaseDir().resolve(key.getLevelId()).toFile());
-        }
-    });
-    public static LoadingCache<LevelSummary, FaviconTexture> iconCache = CacheBuilder.newBuilder().build(new CacheLoader<>() {
-        @Override
-        public FaviconTexture load(LevelSummary key) {
-            Path iconFile = key.getIcon();
-            try {
-                BasicFileAttributes basicFileAttributes = Files.readAttributes(iconFile, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
-                if (basicFileAttributes.isSymbolicLink()) {
-                    List<ForbiddenSymlinkInfo> list = /*? if >1.20.2 {*/Minecraft.getInstance().directoryValidator().validateSymlink(iconFile)/*?} else {*//*new ArrayList<>()*//*?}*/;
-                    //? if <=1.20.2
-                    /*Minecraft.getInstance().getLevelSource().getWorldDirValidator().validateSymlink(iconFile,list);*/
-                    if (!list.isEmpty()) {
-                        Legacy4J.LOGGER.warn("{}", ContentValidationException.getMessage(iconFile, list));
-                        iconFile = null;
-                    } else {
-                        basicFileAttributes = Files.readAttributes(iconFile, BasicFileAttributes.class);
-                    }
-                }
-                if (!basicFileAttributes.isRegularFile()) {
-                    iconFile = null;
-                }
-            } catch (NoSuchFileException noSuchFileException) {
-                iconFile = null;
-            } catch (IOException iOException) {
-                Legacy4J.LOGGER.error("could not validate symlink", iOException);
-                iconFile = null;
-            }
-            FaviconTexture icon = FaviconTexture.forWorld(Minecraft.getInstance().getTextureManager(), key.getLevelId());
-            boolean bl = iconFile != null && Files.isRegularFile(iconFile);
-            if (bl) {
-                try (InputStream inputStream = Files.newInputStream(iconFile)) {
-                    icon.upload(NativeImage.read(inputStream));
-                } catch (Throwable throwable) {
-                    Legacy4J.LOGGER.error("Invalid icon for world {}", key.getLevelId(), throwable);
-                }
-            } else {
-                icon.clear();
-            }
-            return icon;
-        }
-    });
     @Nullable
     public List<LevelSummary> currentlyDisplayedLevels;
     public boolean firstLoad = true;
@@ -137,8 +79,7 @@ public class SaveRenderableList extends RenderableVList {
     }
 
     public static void resetIconCache() {
-        SaveRenderableList.iconCache.asMap().forEach((s, i) -> i.close());
-        SaveRenderableList.iconCache.invalidateAll();
+        SaveMetadataIndex.releaseIcons();
     }
 
     public static void handleLevelLoadFailure(Minecraft minecraft, Component component) {
@@ -187,7 +128,7 @@ public class SaveRenderableList extends RenderableVList {
         if (currentlyDisplayedLevels == null || currentlyDisplayedLevels.isEmpty())
             getScreen(PlayGameScreen.class).isLoading = true;
         CompletableFuture<List<LevelSummary>> completableFuture = this.minecraft.getLevelSource().loadLevelSummaries(levelCandidates);
-        completableFuture.thenAcceptAsync(l -> l.forEach(s -> sizeCache.refresh(s)));
+        completableFuture.thenAcceptAsync(SaveMetadataIndex::update, this.minecraft);
         return completableFuture.exceptionally(throwable -> {
             this.minecraft.delayCrash(CrashReport.forThrowable(throwable, "Couldn't load level list"));
             return List.of();
@@ -318,7 +259,7 @@ public class SaveRenderableList extends RenderableVList {
 
         @Override
         public void renderIcon(GuiGraphics guiGraphics, int mouseX, int mouseY, int x, int y, int width, int height) {
-            FactoryGuiGraphics.of(guiGraphics).blit(iconCache.getUnchecked(summary).textureLocation(), getX() + x, getY() + y, 0, 0, width, height, width, height);
+            FactoryGuiGraphics.of(guiGraphics).blit(SaveMetadataIndex.getIconLocation(summary), getX() + x, getY() + y, 0, 0, width, height, width, height);
         }
 
         @Override
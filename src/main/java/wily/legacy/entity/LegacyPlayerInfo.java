@@ -2,6 +2,7 @@ package wily.legacy.entity;
 
 import com.mojang.authlib.GameProfile;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.stats.Stat;
 import net.minecraft.world.entity.player.Player;
@@ -74,6 +75,16 @@ public interface LegacyPlayerInfo {
         this.setStatsMap(info.getStatsMap());
     }
 
+    default void mergeFrom(LegacyPlayerInfo info) {
+        this.setIdentifierIndex(info.getIdentifierIndex());
+        this.setVisibility(info.isVisible());
+        this.setDisableExhaustion(info.isExhaustionDisabled());
+        this.setMayFlySurvival(info.mayFlySurvival());
+        Object2IntMap<Stat<?>> statsMap = new Object2IntOpenHashMap<>(getStatsMap());
+        statsMap.putAll(info.getStatsMap());
+        this.setStatsMap(statsMap);
+    }
+
     class Instance implements LegacyPlayerInfo {
         int index = -1;
         boolean visibility = true;
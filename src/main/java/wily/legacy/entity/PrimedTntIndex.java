@@ -0,0 +1,99 @@
+package wily.legacy.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.item.PrimedTnt;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import wily.legacy.init.LegacyGameRules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PrimedTntIndex {
+    public static final AABB LIMIT_AREA = new AABB(-50, -50, -50, 50, 50, 50);
+    private final Long2ObjectMap<List<PrimedTnt>> sections = new Long2ObjectOpenHashMap<>();
+    private final Reference2LongMap<PrimedTnt> entitySections = new Reference2LongOpenHashMap<>();
+
+    public static PrimedTntIndex of(ServerLevel level) {
+        return ((Access) level).getPrimedTntIndex();
+    }
+
+    public static boolean isLimitReached(Level level, BlockPos pos) {
+        if (!(level instanceof ServerLevel serverLevel)) return false;
+        int limit = serverLevel.getGameRules().getRule(LegacyGameRules.TNT_LIMIT).get();
+        return limit > 0 && of(serverLevel).count(LIMIT_AREA.move(pos), limit) >= limit;
+    }
+
+    public void add(PrimedTnt tnt) {
+        long section = SectionPos.asLong(tnt.blockPosition());
+        entitySections.put(tnt, section);
+        sections.computeIfAbsent(section, k -> new ArrayList<>()).add(tnt);
+    }
+
+    public void remove(PrimedTnt tnt) {
+        if (entitySections.containsKey(tnt)) removeFromSection(entitySections.removeLong(tnt), tnt);
+    }
+
+    public void move(PrimedTnt tnt) {
+        if (!entitySections.containsKey(tnt)) return;
+        long section = SectionPos.asLong(tnt.blockPosition());
+        long oldSection = entitySections.getLong(tnt);
+        if (section == oldSection) return;
+        removeFromSection(oldSection, tnt);
+        entitySections.put(tnt, section);
+        sections.computeIfAbsent(section, k -> new ArrayList<>()).add(tnt);
+    }
+
+    private void removeFromSection(long section, PrimedTnt tnt) {
+        List<PrimedTnt> list = sections.get(section);
+        if (list == null) return;
+        list.remove(tnt);
+        if (list.isEmpty()) sections.remove(section);
+    }
+
+    public int size() {
+        return entitySections.size();
+    }
+
+    public int count(AABB area, int max) {
+        if (sections.isEmpty()) return 0;
+        int minX = SectionPos.posToSectionCoord(area.minX);
+        int minY = SectionPos.posToSectionCoord(area.minY);
+        int minZ = SectionPos.posToSectionCoord(area.minZ);
+        int maxX = SectionPos.posToSectionCoord(area.maxX);
+        int maxY = SectionPos.posToSectionCoord(area.maxY);
+        int maxZ = SectionPos.posToSectionCoord(area.maxZ);
+        int count = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    List<PrimedTnt> list = sections.get(SectionPos.asLong(x, y, z));
+                    if (list == null) continue;
+                    if (contains(area, x, y, z)) count += list.size();
+                    else for (PrimedTnt tnt : list) {
+                        if (tnt.getBoundingBox().intersects(area)) count++;
+                    }
+                    if (count >= max) return count;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean contains(AABB area, int sectionX, int sectionY, int sectionZ) {
+        int x = SectionPos.sectionToBlockCoord(sectionX);
+        int y = SectionPos.sectionToBlockCoord(sectionY);
+        int z = SectionPos.sectionToBlockCoord(sectionZ);
+        return area.minX <= x && area.minY <= y && area.minZ <= z && x + 16 <= area.maxX && y + 16 <= area.maxY && z + 16 <= area.maxZ;
+    }
+
+    public interface Access {
+        PrimedTntIndex getPrimedTntIndex();
+    }
+}
@@ -0,0 +1,239 @@
+package wily.legacy.inventory;
+
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import wily.factoryapi.base.FactoryIngredient;
+import wily.factoryapi.util.FactoryItemUtil;
+
+import java.util.*;
+
+public class CraftingInventoryIndex {
+    public static final int MAX_CRAFTS = 64 * 36;
+    protected final List<Entry> entries = new ArrayList<>();
+    protected final Map<Item, List<Entry>> entriesByItem = new HashMap<>();
+
+    public static CraftingInventoryIndex of(Inventory inventory, ItemStack carriedItem) {
+        CraftingInventoryIndex index = new CraftingInventoryIndex();
+        index.addAll(inventory./*? if <1.21.5 {*//*items*//*?} else {*/getNonEquipmentItems()/*?}*/);
+        index.add(carriedItem);
+        return index;
+    }
+
+    public static CraftingInventoryIndex of(Player player) {
+        CraftingInventoryIndex index = new CraftingInventoryIndex();
+        index.add(player.containerMenu.getCarried());
+        for (Slot slot : player.containerMenu.slots) {
+            if (slot.container == player.getInventory() && slot.hasItem()) index.add(slot.getItem());
+        }
+        return index;
+    }
+
+    public void addAll(Iterable<ItemStack> items) {
+        for (ItemStack item : items) add(item);
+    }
+
+    public void add(ItemStack stack) {
+        if (stack.isEmpty()) return;
+        List<Entry> sameItem = entriesByItem.computeIfAbsent(stack.getItem(), i -> new ArrayList<>());
+        for (Entry entry : sameItem) {
+            if (FactoryItemUtil.equalItems(entry.key, stack)) {
+                entry.stacks.add(stack);
+                entry.count += stack.getCount();
+                return;
+            }
+        }
+        Entry entry = new Entry(entries.size(), stack.copyWithCount(1));
+        entry.stacks.add(stack);
+        entry.count = stack.getCount();
+        sameItem.add(entry);
+        entries.add(entry);
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public void copyInto(Collection<ItemStack> compactList) {
+        for (Entry entry : entries) compactList.add(entry.key.copyWithCount(entry.count));
+    }
+
+    public int getCount(ItemStack stack) {
+        List<Entry> sameItem = entriesByItem.get(stack.getItem());
+        if (sameItem == null) return 0;
+        for (Entry entry : sameItem) {
+            if (FactoryItemUtil.equalItems(entry.key, stack)) return entry.count;
+        }
+        return 0;
+    }
+
+    public boolean canCraft(List<Optional<Ingredient>> ingredients) {
+        return getMaxCrafts(ingredients, 1) > 0;
+    }
+
+    public int getMaxCrafts(List<Optional<Ingredient>> ingredients, int limit) {
+        if (limit <= 0) return 0;
+        List<Requirement> requirements = getRequirements(ingredients);
+        if (requirements.isEmpty()) return limit;
+
+        Map<BitSet, Integer> demandByMatches = new LinkedHashMap<>();
+        for (Requirement requirement : requirements) {
+            if (requirement.matches.isEmpty()) return 0;
+            demandByMatches.merge(requirement.matches, requirement.count, Integer::sum);
+        }
+
+        List<BitSet> groups = new ArrayList<>(demandByMatches.keySet());
+        boolean disjoint = true;
+        int maxCrafts = limit;
+        for (int i = 0; i < groups.size(); i++) {
+            BitSet matches = groups.get(i);
+            maxCrafts = Math.min(maxCrafts, (int) Math.min(Integer.MAX_VALUE, getTotalCount(matches) / demandByMatches.get(matches)));
+            for (int j = i + 1; j < groups.size() && disjoint; j++) {
+                if (matches.intersects(groups.get(j))) disjoint = false;
+            }
+        }
+        if (disjoint || maxCrafts <= 0) return maxCrafts;
+
+        int feasible = 0;
+        while (feasible < maxCrafts) {
+            int mid = (feasible + maxCrafts + 1) >>> 1;
+            if (canAssign(requirements, mid)) feasible = mid;
+            else maxCrafts = mid - 1;
+        }
+        return feasible;
+    }
+
+    public List<Batch> consume(List<Optional<Ingredient>> ingredients, int crafts) {
+        if (crafts <= 0) return Collections.emptyList();
+        List<Requirement> requirements = getRequirements(ingredients);
+        if (requirements.isEmpty()) return Collections.singletonList(new Batch(crafts, new ItemStack[ingredients.size()]));
+
+        List<List<Run>> runsByRequirement = new ArrayList<>(requirements.size());
+        for (Requirement requirement : requirements) {
+            List<Run> runs = new ArrayList<>();
+            long remaining = (long) crafts * requirement.count;
+            long consumed = 0;
+            for (int i = requirement.matches.nextSetBit(0); i >= 0 && remaining > 0; i = requirement.matches.nextSetBit(i + 1)) {
+                Entry entry = entries.get(i);
+                int taken = (int) Math.min(entry.count, remaining);
+                if (taken <= 0) continue;
+                entry.shrink(taken);
+                remaining -= taken;
+                consumed += taken;
+                runs.add(new Run(entry, consumed));
+            }
+            if (remaining > 0) throw new IllegalStateException("Tried to consume %s crafts without enough items".formatted(crafts));
+            runsByRequirement.add(runs);
+        }
+
+        List<Batch> batches = new ArrayList<>();
+        int[] runIndexes = new int[requirements.size()];
+        Entry[] lastEntries = null;
+        int batchStart = 0;
+        for (int craft = 0; craft < crafts; craft++) {
+            Entry[] craftEntries = new Entry[requirements.size()];
+            for (int r = 0; r < requirements.size(); r++) {
+                Requirement requirement = requirements.get(r);
+                List<Run> runs = runsByRequirement.get(r);
+                long lastUnit = (long) craft * requirement.count + requirement.count - 1;
+                while (runs.get(runIndexes[r]).end <= lastUnit) runIndexes[r]++;
+                craftEntries[r] = runs.get(runIndexes[r]).entry;
+            }
+            if (lastEntries != null && !Arrays.equals(lastEntries, craftEntries)) {
+                batches.add(createBatch(ingredients.size(), requirements, lastEntries, craft - batchStart));
+                batchStart = craft;
+            }
+            lastEntries = craftEntries;
+        }
+        batches.add(createBatch(ingredients.size(), requirements, lastEntries, crafts - batchStart));
+        return batches;
+    }
+
+    protected Batch createBatch(int size, List<Requirement> requirements, Entry[] craftEntries, int crafts) {
+        ItemStack[] items = new ItemStack[size];
+        for (int r = 0; r < requirements.size(); r++)
+            items[requirements.get(r).index] = craftEntries[r].key.copy();
+        return new Batch(crafts, items);
+    }
+
+    protected List<Requirement> getRequirements(List<Optional<Ingredient>> ingredients) {
+        List<Requirement> requirements = new ArrayList<>(ingredients.size());
+        Map<Ingredient, BitSet> matchesByIngredient = new IdentityHashMap<>();
+        for (int i = 0; i < ingredients.size(); i++) {
+            Optional<Ingredient> ing = ingredients.get(i);
+            if (ing.isEmpty()) continue;
+            int count = FactoryIngredient.of(ing.get()).getCount();
+            if (count <= 0) continue;
+            requirements.add(new Requirement(i, count, matchesByIngredient.computeIfAbsent(ing.get(), this::getMatches)));
+        }
+        requirements.sort(Comparator.comparingInt(r -> r.matches.cardinality()));
+        return requirements;
+    }
+
+    protected BitSet getMatches(Ingredient ingredient) {
+        BitSet matches = new BitSet(entries.size());
+        for (Entry entry : entries) {
+            if (ingredient.test(entry.key)) matches.set(entry.index);
+        }
+        return matches;
+    }
+
+    protected long getTotalCount(BitSet matches) {
+        long count = 0;
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) count += entries.get(i).count;
+        return count;
+    }
+
+    protected boolean canAssign(List<Requirement> requirements, int crafts) {
+        int[] available = new int[entries.size()];
+        for (Entry entry : entries) available[entry.index] = entry.count;
+        for (Requirement requirement : requirements) {
+            long remaining = (long) crafts * requirement.count;
+            for (int i = requirement.matches.nextSetBit(0); i >= 0 && remaining > 0; i = requirement.matches.nextSetBit(i + 1)) {
+                int taken = (int) Math.min(available[i], remaining);
+                available[i] -= taken;
+                remaining -= taken;
+            }
+            if (remaining > 0) return false;
+        }
+        return true;
+    }
+
+    public static class Entry {
+        public final int index;
+        public final ItemStack key;
+        protected final List<ItemStack> stacks = new ArrayList<>(1);
+        protected int count;
+
+        protected Entry(int index, ItemStack key) {
+            this.index = index;
+            this.key = key;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        protected void shrink(int amount) {
+            count -= amount;
+            for (ItemStack stack : stacks) {
+                if (amount <= 0) return;
+                int taken = Math.min(stack.getCount(), amount);
+                stack.shrink(taken);
+                amount -= taken;
+            }
+        }
+    }
+
+    public record Batch(int crafts, ItemStack[] actualItems) {
+    }
+
+    protected record Requirement(int index, int count, BitSet matches) {
+    }
+
+    protected record Run(Entry entry, long end) {
+    }
+}
@@ -41,8 +41,10 @@ public class LegacyMerchantMenu extends LegacyCraftingMenu {
 
 
     @Override
-    public boolean canCraft(List<Optional<Ingredient>> ingredients, Player player, ServerMenuCraftPayload packet) {
-        return packet.button() >= 0 && packet.button() < merchant.getOffers().size() && !merchant.getOffers().isEmpty() && !merchant.getOffers().get(packet.button()).isOutOfStock() && super.canCraft(ingredients, player, packet);
+    public int getMaxCrafts(Player player, ServerMenuCraftPayload packet) {
+        if (packet.button() < 0 || packet.button() >= merchant.getOffers().size()) return 0;
+        MerchantOffer offer = merchant.getOffers().get(packet.button());
+        return offer.isOutOfStock() ? 0 : Math.min(super.getMaxCrafts(player, packet), offer.getMaxUses() - offer.getUses());
     }
 
     @Override
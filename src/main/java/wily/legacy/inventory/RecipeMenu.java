@@ -2,10 +2,8 @@ package wily.legacy.inventory;
 
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
-import wily.factoryapi.base.FactoryIngredient;
 import wily.factoryapi.util.FactoryItemUtil;
 import wily.legacy.network.ServerMenuCraftPayload;
 
@@ -35,29 +33,15 @@ public interface RecipeMenu {
     }
 
     static boolean canCraft(List<Optional<Ingredient>> ingredients, Inventory inventory, ItemStack carriedItem) {
-        boolean canCraft = true;
-        List<ItemStack> compactList = new ArrayList<>();
-        handleCompactInventoryList(compactList, inventory, carriedItem);
-        main:
-        for (Optional<Ingredient> ing : ingredients) {
-            if (ing.isEmpty()) continue;
-            ingLoop:
-            for (int i = 0; i < FactoryIngredient.of(ing.get()).getCount(); i++) {
-                for (ItemStack itemStack : compactList) {
-                    if (!itemStack.isEmpty() && ing.get().test(itemStack.copyWithCount(1))) {
-                        itemStack.shrink(1);
-                        continue ingLoop;
-                    }
-                }
-                canCraft = false;
-                break main;
-            }
-        }
-        return canCraft;
+        return CraftingInventoryIndex.of(inventory, carriedItem).canCraft(ingredients);
     }
 
     default boolean canCraft(List<Optional<Ingredient>> ingredients, Player player, ServerMenuCraftPayload packet) {
-        return canCraft(ingredients, player.getInventory(), player.containerMenu.getCarried());
+        return CraftingInventoryIndex.of(player).getMaxCrafts(ingredients, getMaxCrafts(player, packet)) > 0;
+    }
+
+    default int getMaxCrafts(Player player, ServerMenuCraftPayload packet) {
+        return packet.max() ? CraftingInventoryIndex.MAX_CRAFTS : 1;
     }
 
     default List<ItemStack> getRemainingItems(Player player, ServerMenuCraftPayload packet) {
@@ -65,37 +49,29 @@ public interface RecipeMenu {
     }
 
     default void tryCraft(Player player, ServerMenuCraftPayload packet) {
-        int tries = 0;
         List<Optional<Ingredient>> ingredients;
         if ((ingredients = getIngredients(player, packet)).isEmpty()) return;
-        while (canCraft(ingredients, player, packet) && ((packet.max() && tries <= 64 * 36) || tries == 0)) {
-            tries++;
+        CraftingInventoryIndex index = CraftingInventoryIndex.of(player);
+        int crafts = index.getMaxCrafts(ingredients, getMaxCrafts(player, packet));
+        for (CraftingInventoryIndex.Batch batch : index.consume(ingredients, crafts)) {
             setupActualItems(player, packet, null, -1);
-            for (int index = 0; index < ingredients.size(); index++) {
-                Optional<Ingredient> ing = ingredients.get(index);
-                if (ing.isEmpty()) continue;
-                int count = FactoryIngredient.of(ing.get()).getCount();
-                for (int c = 0; c < count; c++) {
-                    ItemStack copy;
-                    if (!player.containerMenu.getCarried().isEmpty() && ing.get().test((copy = player.containerMenu.getCarried().copyWithCount(1)))) {
-                        if (c == count - 1) setupActualItems(player, packet, copy, index);
-                        player.containerMenu.getCarried().shrink(1);
-                        continue;
-                    }
-                    for (int i = 0; i < player.containerMenu.slots.size(); i++) {
-                        Slot slot = player.containerMenu.getSlot(i);
-                        if (slot.container != player.getInventory() || !slot.hasItem() || !ing.get().test((copy = slot.getItem().copyWithCount(1))))
-                            continue;
-                        if (c == count - 1) setupActualItems(player, packet, copy, index);
-                        slot.getItem().shrink(1);
-                        break;
-                    }
-                }
+            for (int i = 0; i < batch.actualItems().length; i++) {
+                if (batch.actualItems()[i] != null) setupActualItems(player, packet, batch.actualItems()[i], i);
             }
             ItemStack result = getResult(player, packet);
-            onCraft(player, packet, result);
-            getRemainingItems(player, packet).forEach(player.getInventory()::placeItemBackInInventory);
-            player.getInventory().placeItemBackInInventory(result.copy());
+            for (int c = 0; c < batch.crafts(); c++) onCraft(player, packet, result);
+            getRemainingItems(player, packet).forEach(remaining -> placeItemsBackInInventory(player.getInventory(), remaining, remaining.getCount() * batch.crafts()));
+            placeItemsBackInInventory(player.getInventory(), result, result.getCount() * batch.crafts());
+        }
+    }
+
+    static void placeItemsBackInInventory(Inventory inventory, ItemStack item, int count) {
+        if (item.isEmpty()) return;
+        int maxStackSize = item.getMaxStackSize();
+        while (count > 0) {
+            int size = Math.min(count, maxStackSize);
+            inventory.placeItemBackInInventory(item.copyWithCount(size));
+            count -= size;
         }
     }
 
@@ -0,0 +1,90 @@
+package wily.legacy.minigame;
+
+import net.minecraft.world.phys.AABB;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Vorberechnete Chunk-Maske für die aktiven Bereiche eines Minigames.
+ * Die Bereiche (inkl. Buffer) werden einmalig in ein Bitmap über ihre Bounding-Box gerastert,
+ * sodass die Prüfung pro Chunk nur noch ein einzelner Array-Zugriff ist.
+ */
+public final class ActiveChunkMask {
+    /**
+     * +2 Chunk Buffer für Rendering/Simulation
+     */
+    public static final int CHUNK_BUFFER = 2;
+
+    public static final ActiveChunkMask ALL = new ActiveChunkMask(0, 0, 0, 0, null);
+
+    private final int minX;
+    private final int minZ;
+    private final int width;
+    private final int depth;
+    private final BitSet chunks;
+
+    private ActiveChunkMask(int minX, int minZ, int width, int depth, BitSet chunks) {
+        this.minX = minX;
+        this.minZ = minZ;
+        this.width = width;
+        this.depth = depth;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Erstellt die Maske aus den Chunk-Bereichen eines Controllers.
+     *
+     * @param areas Chunk-Bereiche (siehe {@link AbstractMinigameController#getActiveChunkAreas()})
+     * @param buffer Zusätzliche Chunks um jeden Bereich herum
+     * @return {@link #ALL} wenn keine Bereiche definiert sind
+     */
+    public static ActiveChunkMask of(List<AABB> areas, int buffer) {
+        if (areas.isEmpty()) return ALL;
+
+        int minX = Integer.MAX_VALUE;
+        int minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxZ = Integer.MIN_VALUE;
+        for (AABB area : areas) {
+            minX = Math.min(minX, (int) Math.ceil(area.minX - buffer));
+            minZ = Math.min(minZ, (int) Math.ceil(area.minZ - buffer));
+            maxX = Math.max(maxX, (int) Math.floor(area.maxX + buffer));
+            maxZ = Math.max(maxZ, (int) Math.floor(area.maxZ + buffer));
+        }
+
+        int width = maxX - minX + 1;
+        int depth = maxZ - minZ + 1;
+        BitSet chunks = new BitSet(width * depth);
+        for (AABB area : areas) {
+            int fromX = (int) Math.ceil(area.minX - buffer) - minX;
+            int toX = (int) Math.floor(area.maxX + buffer) - minX;
+            int fromZ = (int) Math.ceil(area.minZ - buffer) - minZ;
+            int toZ = (int) Math.floor(area.maxZ + buffer) - minZ;
+            if (toX < fromX) continue;
+            for (int z = fromZ; z <= toZ; z++) {
+                chunks.set(z * width + fromX, z * width + toX + 1);
+            }
+        }
+        return new ActiveChunkMask(minX, minZ, width, depth, chunks);
+    }
+
+    public static ActiveChunkMask of(AbstractMinigameController<?> controller) {
+        return controller == null ? ALL : of(controller.getActiveChunkAreas(), CHUNK_BUFFER);
+    }
+
+    public boolean isAll() {
+        return chunks == null;
+    }
+
+    /**
+     * Prüft ob der Chunk innerhalb der Maske liegt.
+     */
+    public boolean contains(int chunkX, int chunkZ) {
+        if (chunks == null) return true;
+        int x = chunkX - minX;
+        int z = chunkZ - minZ;
+        if (x < 0 || z < 0 || x >= width || z >= depth) return false;
+        return chunks.get(z * width + x);
+    }
+}
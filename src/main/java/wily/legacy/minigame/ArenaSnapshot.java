@@ -0,0 +1,168 @@
+package wily.legacy.minigame;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.phys.AABB;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-Memory Snapshot der aktiven Chunk-Bereiche eines Minigame-Levels.
+ *
+ * Wird einmalig beim Aktivieren des Minigames aufgenommen, aber nur für Minigames mit
+ * {@link AbstractMinigameController#getActiveChunkAreas()} (derzeit nur die Lobby). Danach werden alle geänderten Blöcke
+ * mitprotokolliert, sodass ein Reset nur die tatsächlich veränderten Positionen zurückschreibt,
+ * statt alle Chunks zu entladen und von der Festplatte neu zu laden.
+ */
+public class ArenaSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArenaSnapshot.class);
+    private static final int RESTORE_FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE | Block.UPDATE_SUPPRESS_DROPS;
+
+    private final Long2ObjectMap<ChunkSnapshot> chunks = new Long2ObjectOpenHashMap<>();
+    private final LongSet dirtyBlocks = new LongOpenHashSet();
+    private boolean restoring = false;
+    private int restoredBlocks = 0;
+
+    /**
+     * Nimmt die Blöcke und Block-Entities aller Chunks in den angegebenen Bereichen auf.
+     *
+     * @param level Das Level
+     * @param areas Chunk-Bereiche (siehe {@link AbstractMinigameController#getActiveChunkAreas()})
+     */
+    public static ArenaSnapshot capture(ServerLevel level, List<AABB> areas) {
+        ArenaSnapshot snapshot = new ArenaSnapshot();
+        for (AABB area : areas) {
+            for (int x = (int) Math.ceil(area.minX); x <= (int) Math.floor(area.maxX); x++) {
+                for (int z = (int) Math.ceil(area.minZ); z <= (int) Math.floor(area.maxZ); z++) {
+                    long key = ChunkPos.asLong(x, z);
+                    if (!snapshot.chunks.containsKey(key)) snapshot.chunks.put(key, ChunkSnapshot.of(level, level.getChunk(x, z)));
+                }
+            }
+        }
+        LOGGER.info("📸 Captured arena snapshot of {} chunks for level: {}", snapshot.chunks.size(), level.dimension().location());
+        return snapshot;
+    }
+
+    /**
+     * Merkt sich eine geänderte Position, falls sie im Snapshot liegt.
+     */
+    public void markDirty(BlockPos pos) {
+        if (restoring || !chunks.containsKey(ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ())))) return;
+        dirtyBlocks.add(pos.asLong());
+    }
+
+    public boolean isDirty() {
+        return !dirtyBlocks.isEmpty();
+    }
+
+    /**
+     * Schreibt alle seit dem Snapshot geänderten Blöcke und die Block-Entities zurück.
+     *
+     * @return Anzahl der zurückgesetzten Blöcke
+     */
+    public int restore(ServerLevel level) {
+        int pending = dirtyBlocks.size();
+        restore(level, Long.MAX_VALUE);
+        return pending;
+    }
+
+    /**
+     * Schreibt geänderte Blöcke zurück, bis die Deadline ({@link System#nanoTime()}) erreicht ist.
+     * Die Block-Entities werden erst zurückgesetzt, wenn alle Blöcke zurückgeschrieben sind.
+     *
+     * @return true wenn der Reset abgeschlossen ist
+     */
+    public boolean restore(ServerLevel level, long deadline) {
+        restoring = true;
+        try {
+            BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for (LongIterator it = dirtyBlocks.iterator(); it.hasNext(); ) {
+                pos.set(it.nextLong());
+                it.remove();
+                ChunkSnapshot chunk = chunks.get(ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ())));
+                BlockState state = chunk.getBlockState(pos);
+                BlockState current = level.getBlockState(pos);
+                // Geplante Block-/Flüssigkeits-Ticks aus der Runde dürfen nach dem Reset nicht mehr auslösen
+                clearScheduledTicks(level, pos, current);
+                if (state != null && current != state) {
+                    level.setBlock(pos, state, RESTORE_FLAGS);
+                    restoredBlocks++;
+                }
+                if (it.hasNext() && System.nanoTime() >= deadline) return false;
+            }
+
+            // Block-Entity Daten (z.B. Kisten-Inhalte) ändern sich ohne Block-Update, daher immer zurücksetzen
+            for (ChunkSnapshot chunk : chunks.values()) {
+                chunk.restoreBlockEntities(level);
+            }
+        } finally {
+            restoring = false;
+        }
+        LOGGER.info("✅ Restored {} blocks from arena snapshot for level: {}", restoredBlocks, level.dimension().location());
+        restoredBlocks = 0;
+        return true;
+    }
+
+    private static void clearScheduledTicks(ServerLevel level, BlockPos pos, BlockState state) {
+        boolean blockTick = level.getBlockTicks().hasScheduledTick(pos, state.getBlock());
+        boolean fluidTick = !state.getFluidState().isEmpty() && level.getFluidTicks().hasScheduledTick(pos, state.getFluidState().getType());
+        if (!blockTick && !fluidTick) return;
+        BoundingBox box = new BoundingBox(pos);
+        if (blockTick) level.getBlockTicks().clearArea(box);
+        if (fluidTick) level.getFluidTicks().clearArea(box);
+    }
+
+    private record ChunkSnapshot(int minSectionY, PalettedContainer<BlockState>[] sections, Long2ObjectMap<CompoundTag> blockEntities) {
+        @SuppressWarnings("unchecked")
+        static ChunkSnapshot of(ServerLevel level, LevelChunk chunk) {
+            LevelChunkSection[] chunkSections = chunk.getSections();
+            PalettedContainer<BlockState>[] sections = new PalettedContainer[chunkSections.length];
+            for (int i = 0; i < chunkSections.length; i++) {
+                sections[i] = chunkSections[i].getStates().copy();
+            }
+            Long2ObjectMap<CompoundTag> blockEntities = new Long2ObjectOpenHashMap<>();
+            for (Map.Entry<BlockPos, BlockEntity> entry : chunk.getBlockEntities().entrySet()) {
+                blockEntities.put(entry.getKey().asLong(), entry.getValue().saveWithFullMetadata(level.registryAccess()));
+            }
+            return new ChunkSnapshot(chunk.getMinSectionY(), sections, blockEntities);
+        }
+
+        BlockState getBlockState(BlockPos pos) {
+            int index = SectionPos.blockToSectionCoord(pos.getY()) - minSectionY;
+            if (index < 0 || index >= sections.length) return null;
+            return sections[index].get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+        }
+
+        void restoreBlockEntities(ServerLevel level) {
+            BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for (Long2ObjectMap.Entry<CompoundTag> entry : blockEntities.long2ObjectEntrySet()) {
+                pos.set(entry.getLongKey());
+                if (!level.isLoaded(pos)) continue;
+                BlockState state = level.getBlockState(pos);
+                BlockEntity blockEntity = BlockEntity.loadStatic(pos.immutable(), state, entry.getValue(), level.registryAccess());
+                if (blockEntity == null) continue;
+                level.removeBlockEntity(pos);
+                level.setBlockEntity(blockEntity);
+                level.sendBlockUpdated(pos, state, state, Block.UPDATE_CLIENTS);
+            }
+        }
+    }
+}
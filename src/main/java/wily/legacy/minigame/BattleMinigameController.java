@@ -9,8 +9,6 @@ import net.minecraft.world.level.GameType;
 import net.minecraft.world.level.Level;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import wily.factoryapi.base.network.CommonNetwork;
-import wily.legacy.network.S2CPlaySoundPayload;
 
 import java.util.*;
 
@@ -22,6 +20,7 @@ public class BattleMinigameController extends AbstractMinigameController<BattleM
     private static final Logger LOGGER = LoggerFactory.getLogger(BattleMinigameController.class);
 
     private static final int END_GAME_COUNTDOWN_TICKS = 200; // 10 Sekunden (200 ticks)
+    private static final int PRELOAD_TIMEOUT_TICKS = 100; // Höchstens 5 Sekunden auf die Lobby-Chunks warten
 
     private int gameTime = 0;
     private boolean gameStarted = false;
@@ -50,6 +49,17 @@ public class BattleMinigameController extends AbstractMinigameController<BattleM
         return BATTLE_SPAWNS;
     }
 
+    /**
+     * Gibt die Spawn-Positionen der ersten Spieler zurück, z.B. zum Vorladen der Arena-Chunks
+     */
+    public static List<SpawnPosition> getArenaSpawns(int playerCount) {
+        List<SpawnPosition> spawns = new ArrayList<>();
+        for (int i = 0; i < Math.max(playerCount, 1); i++) {
+            spawns.add(BATTLE_SPAWNS.get(i));
+        }
+        return spawns;
+    }
+
     @Override
     public MinigameGamerules getGamerules() {
         return MinigameGamerules.BATTLE;
@@ -91,18 +101,11 @@ public class BattleMinigameController extends AbstractMinigameController<BattleM
         if (endGameCountdown % 20 == 0) {
             int secondsLeft = endGameCountdown / 20;
 
-            for (ServerPlayer player : controller.getPlayersFor(controller.getLevel())) {
-                sendTopMessage(player, Component.literal("§fReturning to lobby in " + secondsLeft + " seconds..."));
-            }
+            controller.getAudience().sendTopMessage(Component.literal("§fReturning to lobby in " + secondsLeft + " seconds..."));
 
             // Spiele Sound in den letzten 5 Sekunden
             if (secondsLeft <= 5 && secondsLeft >= 1) {
-                for (ServerPlayer player : controller.getPlayersFor(controller.getLevel())) {
-                    CommonNetwork.sendToPlayer(player, S2CPlaySoundPayload.of(
-                        MinigameSounds.LOBBY_COUNTDOWN,
-                        1.0f
-                    ));
-                }
+                controller.getAudience().playSound(MinigameSounds.LOBBY_COUNTDOWN, 1.0f);
             }
         }
 
@@ -128,79 +131,84 @@ public class BattleMinigameController extends AbstractMinigameController<BattleM
 
         LOGGER.info("🔄 Teleporting all players back to lobby...");
 
-        // === AKTIVIERE LOBBY-CONTROLLER ZUERST ===
-        // Wichtig: Der Lobby-Controller muss VOR dem Teleport aktiv gesetzt werden!
         MinigamesController lobbyController = MinigamesController.getMinigameController(lobbyLevel);
-        LobbyMinigameController lobbyMinigameController = null;
-        if (lobbyController != null) {
-            // Setze Lobby als aktives Minigame - das aktiviert den LobbyMinigameController
-            lobbyMinigameController = lobbyController.setActiveMinigame(Minigame.LOBBY);
-
-            if (lobbyMinigameController != null) {
-                LOGGER.info("✅ Lobby controller activated");
-            } else {
-                LOGGER.error("❌ Failed to activate lobby controller!");
-            }
-        } else {
-            LOGGER.error("❌ No MinigamesController found for lobby level!");
-        }
-
-        // === LOBBY RESET ===
-        // Setzt die Lobby-Welt zurück, indem alle Chunks entladen werden.
-        // Beim nächsten Betreten werden sie frisch von der Festplatte geladen.
-        if (lobbyLevel instanceof IResettableLevel resettableLobby) {
-            LOGGER.info("🔄 Resetting lobby level...");
-            resettableLobby.legacy$reset();
-            LOGGER.info("✅ Lobby level reset.");
-        } else {
-            LOGGER.warn("⚠️ Lobby level does not implement IResettableLevel, cannot reset!");
-        }
-
-        for (ServerPlayer player : controller.getPlayersFor(level)) {
-            SpawnPosition spawn;
-
-            // Sieger bekommt den Winner-Spawn
-            if (winnerId != null && player.getUUID().equals(winnerId)) {
-                spawn = LobbyMinigameController.getWinnerSpawn();
-                LOGGER.info("🏆 Winner {} teleporting to winner spawn", player.getName().getString());
-            } else {
-                // Alle anderen bekommen einen zufälligen Spawn
-                spawn = LobbyMinigameController.getRandomSpawn();
-            }
+        // Kopie, da die Spieler das Level während des Übergangs verlassen
+        List<ServerPlayer> players = List.copyOf(controller.getAudience().getPlayers());
+        UUID winner = winnerId;
+
+        // Übergang über mehrere Ticks verteilt, damit der Server-Thread nicht blockiert
+        MinigameTransition.create("battle_to_lobby")
+            // === AKTIVIERE LOBBY-CONTROLLER ZUERST ===
+            // Wichtig: Der Lobby-Controller muss VOR dem Teleport aktiv gesetzt werden!
+            .then("activate_lobby", () -> {
+                if (lobbyController == null) {
+                    LOGGER.error("❌ No MinigamesController found for lobby level!");
+                } else if (lobbyController.setActiveMinigame(Minigame.LOBBY) != null) {
+                    LOGGER.info("✅ Lobby controller activated");
+                } else {
+                    LOGGER.error("❌ Failed to activate lobby controller!");
+                }
+            })
+            // === LOBBY RESET ===
+            // Mit Arena-Snapshot werden nur geänderte Blöcke zurückgeschrieben, verteilt über mehrere Ticks
+            .step("reset_lobby", deadline -> {
+                if (lobbyLevel instanceof IResettableLevel resettableLobby) return resettableLobby.legacy$reset(deadline);
+                LOGGER.warn("⚠️ Lobby level does not implement IResettableLevel, cannot reset!");
+                return true;
+            })
+            .await("preload_lobby", () -> MinigameTransition.areSpawnChunksLoaded(lobbyLevel, LobbyMinigameController.getAllSpawns()), PRELOAD_TIMEOUT_TICKS)
+            .forEach("teleport_players", players, player -> teleportToLobby(player, lobbyLevel, lobbyController, winner))
+            .then("reset_round", () -> {
+                // Reset Battle-Controller für nächste Runde
+                resetGame();
+
+                // Setze den Lobby-Zustand zurück für neue Runde
+                LobbyMinigameController lobbyMinigameController = lobbyController == null ? null : lobbyController.getController(Minigame.LOBBY);
+                if (lobbyMinigameController != null) {
+                    lobbyMinigameController.resetLobbyState();
+                    LOGGER.info("✅ Lobby controller reset for new round");
+                }
 
-            // Teleportiere zur Lobby
-            player.teleportTo(lobbyLevel, spawn.x(), spawn.y(), spawn.z(),
-                Set.of(), spawn.yaw(), spawn.pitch(), true);
+                LOGGER.info("✅ All players returned to lobby");
+            })
+            .start();
+    }
 
-            // Sync controller state to player after teleport (so client has correct state for new level)
-            if (lobbyController != null) {
-                lobbyController.syncToPlayer(player);
-            }
+    private void teleportToLobby(ServerPlayer player, ServerLevel lobbyLevel, MinigamesController lobbyController, UUID winner) {
+        if (player.hasDisconnected()) return;
 
-            // Setze Spielmodus auf Adventure
-            player.setGameMode(GameType.ADVENTURE);
+        SpawnPosition spawn;
 
-            // Leere Inventar
-            player.getInventory().clearContent();
+        // Sieger bekommt den Winner-Spawn
+        if (winner != null && player.getUUID().equals(winner)) {
+            spawn = LobbyMinigameController.getWinnerSpawn();
+            LOGGER.info("🏆 Winner {} teleporting to winner spawn", player.getName().getString());
+        } else {
+            // Alle anderen bekommen einen zufälligen Spawn
+            spawn = LobbyMinigameController.getRandomSpawn();
+        }
 
-            // Heile Spieler
-            player.setHealth(player.getMaxHealth());
-            player.getFoodData().setFoodLevel(20);
-            player.getFoodData().setSaturation(20.0f);
+        // Teleportiere zur Lobby
+        player.teleportTo(lobbyLevel, spawn.x(), spawn.y(), spawn.z(),
+            Set.of(), spawn.yaw(), spawn.pitch(), true);
 
-            LOGGER.info("✅ Teleported {} to lobby", player.getName().getString());
+        // Sync controller state to player after teleport (so client has correct state for new level)
+        if (lobbyController != null) {
+            lobbyController.syncToPlayer(player);
         }
 
-        // Reset Battle-Controller für nächste Runde
-        resetGame();
+        // Setze Spielmodus auf Adventure
+        player.setGameMode(GameType.ADVENTURE);
 
-        // Setze den Lobby-Zustand zurück für neue Runde
-        if (lobbyMinigameController != null) {
-            lobbyMinigameController.resetLobbyState();
-            LOGGER.info("✅ Lobby controller reset for new round");
-        }
+        // Leere Inventar
+        player.getInventory().clearContent();
 
-        LOGGER.info("✅ All players returned to lobby");
+        // Heile Spieler
+        player.setHealth(player.getMaxHealth());
+        player.getFoodData().setFoodLevel(20);
+        player.getFoodData().setSaturation(20.0f);
+
+        LOGGER.info("✅ Teleported {} to lobby", player.getName().getString());
     }
 
     private void checkWinCondition() {
@@ -214,6 +222,12 @@ public class BattleMinigameController extends AbstractMinigameController<BattleM
         gameEnded = true;
         endGameCountdown = END_GAME_COUNTDOWN_TICKS;
 
+        // Lobby-Chunks während des Countdowns im Hintergrund vorladen
+        ServerLevel lobbyLevel = controller.getLevel() == null ? null : controller.getLevel().getServer().getLevel(Level.OVERWORLD);
+        if (lobbyLevel != null) {
+            MinigameTransition.preloadSpawnChunks(lobbyLevel, LobbyMinigameController.getAllSpawns());
+        }
+
         if (alivePlayers.size() == 1) {
             winnerId = alivePlayers.iterator().next();
 
@@ -233,7 +247,7 @@ public class BattleMinigameController extends AbstractMinigameController<BattleM
 
             // Sieger bekommt Feuerwerk-Effekt (optional)
             if (winner != null) {
-                winner.sendSystemMessage(Component.literal("§a§lDu hast gewonnen!"));
+                controller.getAudience().sendSystemMessage(winner, Component.literal("§a§lDu hast gewonnen!"));
             }
         } else {
             winnerId = null;
@@ -245,13 +259,7 @@ public class BattleMinigameController extends AbstractMinigameController<BattleM
     }
 
     private ServerPlayer findPlayerByUUID(UUID uuid) {
-        if (controller.getLevel() == null) return null;
-        for (ServerPlayer player : controller.getPlayersFor(controller.getLevel())) {
-            if (player.getUUID().equals(uuid)) {
-                return player;
-            }
-        }
-        return null;
+        return controller.getAudience().getPlayer(uuid);
     }
 
     private void resetGame() {
@@ -266,10 +274,7 @@ public class BattleMinigameController extends AbstractMinigameController<BattleM
     }
 
     private void broadcastMessage(Component message) {
-        if (controller.getLevel() == null) return;
-        for (ServerPlayer player : controller.getPlayersFor(controller.getLevel())) {
-            player.sendSystemMessage(message);
-        }
+        controller.getAudience().sendSystemMessage(message);
     }
 
     public void startGame() {
@@ -290,7 +295,7 @@ public class BattleMinigameController extends AbstractMinigameController<BattleM
         alivePlayers.remove(player.getUUID());
 
         int remaining = alivePlayers.size();
-        player.sendSystemMessage(Component.literal("§c§lDu bist ausgeschieden!"));
+        controller.getAudience().sendSystemMessage(player, Component.literal("§c§lDu bist ausgeschieden!"));
         broadcastMessage(Component.literal("§c" + player.getName().getString() + " §7wurde eliminiert! §f(" + remaining + " verbleibend)"));
 
         LOGGER.info("💀 Player {} eliminated, {} remaining", player.getName().getString(), remaining);
@@ -308,7 +313,7 @@ public class BattleMinigameController extends AbstractMinigameController<BattleM
         playerKills.merge(killer.getUUID(), 1, Integer::sum);
         int kills = playerKills.get(killer.getUUID());
 
-        killer.sendSystemMessage(Component.literal("§a+" + kills + " Kill!"));
+        controller.getAudience().sendSystemMessage(killer, Component.literal("§a+" + kills + " Kill!"));
 
         playerDied(victim);
     }
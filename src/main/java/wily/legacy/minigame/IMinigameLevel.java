@@ -0,0 +1,23 @@
+package wily.legacy.minigame;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Interface für Level (Server und Client), an denen der MinigamesController direkt hängt.
+ * Wird via Mixin implementiert, damit die Controller-Suche nur ein Feldzugriff ist.
+ *
+ * @see MinigamesController#getMinigameController(net.minecraft.world.level.Level)
+ */
+public interface IMinigameLevel {
+
+    /**
+     * Gibt den an dieses Level gebundenen Controller zurück, oder null wenn noch keiner gebunden wurde.
+     */
+    @Nullable
+    MinigamesController legacy$getMinigameController();
+
+    /**
+     * Bindet einen Controller an dieses Level (null entfernt die Bindung).
+     */
+    void legacy$setMinigameController(@Nullable MinigamesController controller);
+}
@@ -1,5 +1,9 @@
 package wily.legacy.minigame;
 
+import net.minecraft.world.phys.AABB;
+
+import java.util.List;
+
 /**
  * Interface für ServerLevel mit Minigame-spezifischen Methoden
  */
@@ -27,7 +31,29 @@ public interface IResettableLevel {
     boolean legacy$isMinigameLevel();
 
     /**
-     * Setzt das Level zurück, indem alle Chunks ohne Speichern entladen werden.
+     * Setzt das Level zurück.
+     * Mit Arena-Snapshot werden nur geänderte Blöcke im RAM zurückgeschrieben,
+     * ansonsten werden alle Chunks ohne Speichern entladen.
      */
     void legacy$reset();
+
+    /**
+     * Setzt das Level schrittweise zurück, bis die Deadline ({@link System#nanoTime()}) erreicht ist.
+     * Ohne Arena-Snapshot wird das Level in einem Schritt zurückgesetzt.
+     *
+     * @return true wenn der Reset abgeschlossen ist
+     */
+    boolean legacy$reset(long deadline);
+
+    /**
+     * Nimmt einmalig einen In-Memory Snapshot der angegebenen Chunk-Bereiche auf.
+     * Ist bereits ein Snapshot vorhanden, passiert nichts.
+     */
+    void legacy$captureArenaSnapshot(List<AABB> areas);
+
+    /**
+     * Gibt die vorberechnete Chunk-Maske des aktiven Minigames zurück.
+     * Wird nur neu aufgebaut, wenn sich das aktive Minigame ändert.
+     */
+    ActiveChunkMask legacy$getActiveChunkMask();
 }
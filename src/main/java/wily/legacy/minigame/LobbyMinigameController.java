@@ -12,8 +12,6 @@ import net.minecraft.world.level.GameType;
 import net.minecraft.world.level.block. Blocks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import wily.factoryapi. base.network.CommonNetwork;
-import wily.legacy.network. S2CPlaySoundPayload;
 
 import java.util.*;
 
@@ -24,6 +22,8 @@ public class LobbyMinigameController extends AbstractMinigameController<LobbyMin
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LobbyMinigameController.class);
     private static final int COUNTDOWN_TICKS = 1200; // 60 sec (1200 ticks)
+    private static final int PRELOAD_TICKS = 200; // Arena 10 Sekunden vor dem Start vorladen
+    private static final int PRELOAD_TIMEOUT_TICKS = 100; // Höchstens 5 Sekunden auf die Arena-Chunks warten
 
     private int waitingTicks = COUNTDOWN_TICKS;
     private final List<UUID> readiedPlayers = new ArrayList<>();
@@ -215,6 +215,16 @@ public class LobbyMinigameController extends AbstractMinigameController<LobbyMin
         return WINNER_SPAWN;
     }
 
+    /**
+     * Gibt alle Spawn-Positionen der Lobby zurück, z.B. zum Vorladen der Chunks
+     */
+    public static List<SpawnPosition> getAllSpawns() {
+        List<SpawnPosition> spawns = new ArrayList<>(RANDOM_SPAWNS);
+        spawns.add(DEFAULT_SPAWN);
+        spawns.add(WINNER_SPAWN);
+        return spawns;
+    }
+
     @Override
     public List<net.minecraft.world.phys.AABB> getActiveChunkAreas() {
         return LOBBY_CHUNK_AREAS;
@@ -313,18 +323,11 @@ public class LobbyMinigameController extends AbstractMinigameController<LobbyMin
             // Zeige Countdown-Nachricht jede Sekunde
             if (waitingTicks % 20 == 0) {
                 int secondsLeft = waitingTicks / 20;
-                for (ServerPlayer player : players) {
-                    sendTopMessage(player, Component.literal("§fTime to start: " + secondsLeft + " seconds"));
-                }
+                controller.getAudience().sendTopMessage(Component.literal("§fTime to start: " + secondsLeft + " seconds"));
 
                 // Spiele Sound in den letzten 5 Sekunden (5, 4, 3, 2, 1)
                 if (secondsLeft <= 5 && secondsLeft >= 1) {
-                    for (ServerPlayer player :  players) {
-                        CommonNetwork.sendToPlayer(player, S2CPlaySoundPayload. of(
-                                MinigameSounds.LOBBY_COUNTDOWN,
-                                1.0f
-                        ));
-                    }
+                    controller.getAudience().playSound(MinigameSounds.LOBBY_COUNTDOWN, 1.0f);
                 }
             }
 
@@ -334,6 +337,11 @@ public class LobbyMinigameController extends AbstractMinigameController<LobbyMin
                 waitingTicks = -9999;
             }
 
+            // Arena schon vor Ende des Countdowns vorbereiten, damit der Start nicht blockiert
+            if (waitingTicks == PRELOAD_TICKS) {
+                prepareArena(server, playerCount);
+            }
+
             // Countdown läuft runter
             if (waitingTicks <= 0) {
                 startMinigame(config, players);
@@ -345,9 +353,7 @@ public class LobbyMinigameController extends AbstractMinigameController<LobbyMin
         } else if (! isSoloMode && playerCount == 1) {
             // Nur 1 Spieler aber kein Solo-Mode - warte auf mehr Spieler
             waitingTicks = COUNTDOWN_TICKS;
-            for (ServerPlayer player : players) {
-                sendTopMessage(player, Component.literal("§f1 or more additional players are required to start the round... "));
-            }
+            controller.getAudience().sendTopMessage(Component.literal("§f1 or more additional players are required to start the round... "));
         } else {
             // Nicht genug Spieler - reset countdown
             if (waitingTicks < COUNTDOWN_TICKS) {
@@ -380,6 +386,52 @@ public class LobbyMinigameController extends AbstractMinigameController<LobbyMin
         LOGGER.info("🔄 Lobby marked for reset - will be fresh when players return");
 
         // === Lade Battle-Welt ===
+        // Normalerweise schon vor Ende des Countdowns geschehen (siehe PRELOAD_TICKS)
+        ServerLevel arena = prepareArena(server, players.length);
+
+        if (arena == null) {
+            LOGGER. error("❌ Battle dimension not available!");
+            broadcastMessage(Component.literal("§cFehler: Battle-Arena konnte nicht geladen werden!"));
+            return;
+        }
+
+        MinigamesController arenaController = MinigamesController.getMinigameController(arena);
+        if (arenaController == null) {
+            LOGGER. error("❌ No MinigamesController for arena!");
+            return;
+        }
+
+        List<SpawnPosition> spawns = BattleMinigameController.getArenaSpawns(players.length);
+        List<Integer> playerIndices = new ArrayList<>();
+        for (int i = 0; i < players.length; i++) {
+            playerIndices.add(i);
+        }
+
+        // Übergang über mehrere Ticks verteilt, damit der Server-Thread nicht blockiert
+        MinigameTransition.create("lobby_to_battle")
+                .await("preload_arena", () -> MinigameTransition.areSpawnChunksLoaded(arena, spawns), PRELOAD_TIMEOUT_TICKS)
+                // Setze Battle als aktives Minigame
+                .then("activate_arena", () -> arenaController.setActiveMinigame(Minigame.BATTLE))
+                .forEach("teleport_players", playerIndices, i -> teleportToArena(config, arenaController, players[i], i))
+                .then("start_game", () -> {
+                    BattleMinigameController battleController = arenaController.getController(Minigame.BATTLE);
+                    if (battleController == null) {
+                        LOGGER.error("❌ BattleMinigameController not available!");
+                        return;
+                    }
+                    // Starte das Battle-Spiel
+                    battleController.startGame();
+                    LOGGER.info("✅ Minigame started successfully with {} players", players.length);
+                })
+                .start();
+    }
+
+    /**
+     * Lädt die Battle-Welt, falls nötig, und lässt die Chunks um die Arena-Spawns im Hintergrund laden.
+     *
+     * @return Die Arena, oder null wenn sie nicht geladen werden konnte
+     */
+    private ServerLevel prepareArena(MinecraftServer server, int playerCount) {
         ServerLevel arena;
 
         // Versuche zuerst die bereits geladene Battle-Dimension zu holen
@@ -398,80 +450,56 @@ public class LobbyMinigameController extends AbstractMinigameController<LobbyMin
             }
         }
 
-        if (arena == null) {
-            LOGGER. error("❌ Battle dimension not available!");
-            broadcastMessage(Component.literal("§cFehler: Battle-Arena konnte nicht geladen werden!"));
-            return;
-        }
-
-        LOGGER.info("✅ Battle arena ready - teleporting {} players now", players.length);
-
-        // === Aktiviere BattleMinigameController für die Arena ===
-        MinigamesController arenaController = MinigamesController.getMinigameController(arena);
-        if (arenaController == null) {
-            LOGGER. error("❌ No MinigamesController for arena!");
-            return;
+        if (arena != null) {
+            MinigameTransition.preloadSpawnChunks(arena, BattleMinigameController.getArenaSpawns(playerCount));
         }
+        return arena;
+    }
 
-        // Setze Battle als aktives Minigame
-        arenaController.setActiveMinigame(Minigame.BATTLE);
+    private void teleportToArena(MinigameServerConfig config, MinigamesController arenaController, ServerPlayer player, int index) {
         BattleMinigameController battleController = arenaController.getController(Minigame.BATTLE);
+        if (battleController == null || player.hasDisconnected()) return;
 
-        if (battleController == null) {
-            LOGGER.error("❌ BattleMinigameController not available!");
-            return;
-        }
-
-        // Teleportiere alle Spieler zur Battle-Arena
-        for (int i = 0; i < players.length; i++) {
-            ServerPlayer player = players[i];
-
-            // Hole Spawn-Position vom BattleController
-            SpawnPosition spawn = battleController.getSpawnPosition(i);
-
-            // Teleportiere zum Arena-Spawn
-            player.teleportTo(arena, spawn.x(), spawn.y(), spawn.z(), Set.of(), spawn.yaw(), spawn.pitch(), true);
+        ServerLevel arena = arenaController.getLevel();
 
-            // Registriere Spieler beim Battle-Controller
-            battleController.sendToMap(server. registryAccess(), player, false);
+        // Hole Spawn-Position vom BattleController
+        SpawnPosition spawn = battleController.getSpawnPosition(index);
 
-            // Sync controller state to player after teleport (so client has correct state for new level)
-            arenaController.syncToPlayer(player);
+        // Teleportiere zum Arena-Spawn
+        player.teleportTo(arena, spawn.x(), spawn.y(), spawn.z(), Set.of(), spawn.yaw(), spawn.pitch(), true);
 
-            // Setze Spielmodus auf Adventure
-            player.setGameMode(GameType.ADVENTURE);
+        // Registriere Spieler beim Battle-Controller
+        battleController.sendToMap(arena.getServer().registryAccess(), player, false);
 
-            // Leere Inventar (Items werden vom Battle-Controller vergeben)
-            player.getInventory().clearContent();
+        // Sync controller state to player after teleport (so client has correct state for new level)
+        arenaController.syncToPlayer(player);
 
-            // Heile Spieler
-            player.setHealth(player.getMaxHealth());
-            player.getFoodData().setFoodLevel(20);
-            player.getFoodData().setSaturation(20.0f);
+        // Setze Spielmodus auf Adventure
+        player.setGameMode(GameType.ADVENTURE);
 
-            player.sendSystemMessage(Component.literal("§a=== " + config.getMinigameType() + " BEGINNT!  ==="));
+        // Leere Inventar (Items werden vom Battle-Controller vergeben)
+        player.getInventory().clearContent();
 
-            LOGGER.info("✅ Teleported {} to Battle arena at {}, {}, {}",
-                    player.getName().getString(), spawn.x(), spawn.y(), spawn.z());
-        }
+        // Heile Spieler
+        player.setHealth(player.getMaxHealth());
+        player.getFoodData().setFoodLevel(20);
+        player.getFoodData().setSaturation(20.0f);
 
-        // Starte das Battle-Spiel
-        battleController.startGame();
+        controller.getAudience().sendSystemMessage(player, Component.literal("§a=== " + config.getMinigameType() + " BEGINNT!  ==="));
 
-        LOGGER.info("✅ Minigame started successfully with {} players", players.length);
+        LOGGER.info("✅ Teleported {} to Battle arena at {}, {}, {}",
+                player.getName().getString(), spawn.x(), spawn.y(), spawn.z());
     }
 
     private void broadcastMessage(Component message) {
-        for (ServerPlayer player : controller.getPlayersFor(controller.getLevel())) {
-            player.sendSystemMessage(message);
-        }
+        controller.getAudience().sendSystemMessage(message);
     }
 
     private boolean allPlayersReady() {
-        ServerPlayer[] players = controller.getPlayersFor(controller.getLevel());
-        if (players.length == 0) return false;
+        List<ServerPlayer> players = controller.getAudience().getPlayers();
+        if (players.isEmpty()) return false;
 
-        return Arrays.stream(players)
+        return players.stream()
                 .map(Entity::getUUID)
                 .allMatch(readiedPlayers::contains);
     }
@@ -0,0 +1,124 @@
+package wily.legacy.minigame;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvent;
+import org.jetbrains.annotations.Nullable;
+import wily.factoryapi.base.network.CommonNetwork;
+import wily.legacy.network.S2CMinigameBundlePayload;
+import wily.legacy.network.S2CPlaySoundPayload;
+
+import java.util.*;
+
+/**
+ * Zielgruppe eines Minigame-Levels.
+ *
+ * Die Teilnehmer sind die Spieler des Levels ({@link ServerLevel#players()}), die der Server beim Betreten
+ * und Verlassen des Levels ohnehin pflegt. Spieler werden per UUID über die Spielerliste des Servers aufgelöst.
+ *
+ * Nachrichten und Sounds werden pro Spieler gesammelt und am Ende des Server-Ticks
+ * als ein einziges {@link S2CMinigameBundlePayload} verschickt.
+ */
+public class MinigameAudience {
+    private static final Set<MinigameAudience> PENDING = new LinkedHashSet<>();
+
+    private final MinigamesController controller;
+    private final Map<UUID, Bundle> bundles = new LinkedHashMap<>();
+
+    public MinigameAudience(MinigamesController controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Aktuelle Spieler des Levels. Die Liste darf nicht verändert werden
+     * und muss kopiert werden, wenn währenddessen Spieler das Level verlassen.
+     */
+    public List<ServerPlayer> getPlayers() {
+        ServerLevel level = controller.getLevel();
+        return level == null ? List.of() : level.players();
+    }
+
+    public int size() {
+        return getPlayers().size();
+    }
+
+    /**
+     * Löst einen Teilnehmer per UUID auf, ohne alle Spieler zu durchsuchen.
+     *
+     * @return Der Spieler, oder null wenn er nicht (mehr) in diesem Level ist
+     */
+    @Nullable
+    public ServerPlayer getPlayer(UUID uuid) {
+        ServerLevel level = controller.getLevel();
+        if (level == null) return null;
+        ServerPlayer player = level.getServer().getPlayerList().getPlayer(uuid);
+        return player != null && player.level() == level ? player : null;
+    }
+
+    public void sendSystemMessage(Component message) {
+        for (ServerPlayer player : getPlayers()) {
+            sendSystemMessage(player, message);
+        }
+    }
+
+    public void sendSystemMessage(ServerPlayer player, Component message) {
+        getBundle(player).systemMessages.add(message);
+    }
+
+    public void sendTopMessage(Component message) {
+        for (ServerPlayer player : getPlayers()) {
+            sendTopMessage(player, message);
+        }
+    }
+
+    public void sendTopMessage(ServerPlayer player, Component message) {
+        // Es wird ohnehin nur die letzte Top-Nachricht angezeigt
+        getBundle(player).topMessage = message;
+    }
+
+    public void playSound(SoundEvent sound, float volume) {
+        S2CPlaySoundPayload payload = S2CPlaySoundPayload.of(sound, volume);
+        for (ServerPlayer player : getPlayers()) {
+            getBundle(player).sounds.add(payload);
+        }
+    }
+
+    private Bundle getBundle(ServerPlayer player) {
+        PENDING.add(this);
+        return bundles.computeIfAbsent(player.getUUID(), uuid -> new Bundle());
+    }
+
+    /**
+     * Verschickt die gesammelten Bundles aller Zielgruppen.
+     * Wird am Ende jedes Server-Ticks aufgerufen.
+     */
+    public static void flushAll(MinecraftServer server) {
+        if (PENDING.isEmpty()) return;
+        for (MinigameAudience audience : PENDING) {
+            audience.flush(server);
+        }
+        PENDING.clear();
+    }
+
+    public static void clearAll() {
+        PENDING.forEach(audience -> audience.bundles.clear());
+        PENDING.clear();
+    }
+
+    private void flush(MinecraftServer server) {
+        // Spieler, die das Level im gleichen Tick verlassen haben, bekommen ihre Nachrichten trotzdem
+        bundles.forEach((uuid, bundle) -> {
+            ServerPlayer player = server.getPlayerList().getPlayer(uuid);
+            if (player != null) CommonNetwork.sendToPlayer(player, new S2CMinigameBundlePayload(bundle.systemMessages, Optional.ofNullable(bundle.topMessage), bundle.sounds));
+        });
+        bundles.clear();
+    }
+
+    private static class Bundle {
+        private final List<Component> systemMessages = new ArrayList<>();
+        private final List<S2CPlaySoundPayload> sounds = new ArrayList<>();
+        private Component topMessage;
+    }
+}
@@ -172,6 +172,7 @@ public class MinigameLevelManager {
             // Entferne Level aus der Server-Map über Accessor
             if (server instanceof IMinecraftServerLevels serverLevels) {
                 serverLevels.legacy$getLevels().remove(dimensionKey);
+                MinigamesController.detachFromLevel(level);
                 LOGGER.info("✅ Successfully unloaded dimension: {} (no data saved)", name);
             } else {
                 LOGGER.error("❌ Server does not implement IMinecraftServerLevels - cannot remove from levels map");
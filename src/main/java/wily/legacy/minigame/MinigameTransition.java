@@ -0,0 +1,179 @@
+package wily.legacy.minigame;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Gestufter Übergang zwischen Minigames (z.B. Lobby → Battle → Lobby).
+ *
+ * Jede Stufe wird über mehrere Server-Ticks verteilt ausgeführt, pro Tick aber höchstens
+ * {@link #TICK_BUDGET_NANOS} lang. So blockieren Teleports und Level-Resets den Server-Thread
+ * nicht mehr mehrere Sekunden am Stück. Nach jeder Stufe wird deren Laufzeit protokolliert.
+ */
+public class MinigameTransition {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MinigameTransition.class);
+    public static final long TICK_BUDGET_NANOS = 5_000_000L; // 5 ms pro Tick
+    public static final int PRELOAD_RADIUS = 2;
+    private static final List<MinigameTransition> ACTIVE = new ArrayList<>();
+
+    private final String name;
+    private final Deque<Stage> stages = new ArrayDeque<>();
+    private long startTime;
+
+    private MinigameTransition(String name) {
+        this.name = name;
+    }
+
+    public static MinigameTransition create(String name) {
+        return new MinigameTransition(name);
+    }
+
+    /**
+     * Stufe, die einmalig in einem Tick ausgeführt wird.
+     */
+    public MinigameTransition then(String stage, Runnable action) {
+        return step(stage, deadline -> {
+            action.run();
+            return true;
+        });
+    }
+
+    /**
+     * Stufe, die pro Tick so viele Elemente abarbeitet, wie das Zeitbudget erlaubt.
+     */
+    public <T> MinigameTransition forEach(String stage, Collection<T> elements, Consumer<T> action) {
+        Iterator<T> iterator = List.copyOf(elements).iterator();
+        return step(stage, deadline -> {
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                if (System.nanoTime() >= deadline) break;
+            }
+            return !iterator.hasNext();
+        });
+    }
+
+    /**
+     * Stufe, die wartet bis die Bedingung erfüllt ist, höchstens aber {@code timeoutTicks} Ticks.
+     */
+    public MinigameTransition await(String stage, BooleanSupplier condition, int timeoutTicks) {
+        stages.add(new Stage(stage, deadline -> condition.getAsBoolean(), timeoutTicks));
+        return this;
+    }
+
+    /**
+     * Stufe mit eigener Aufteilung: Wird pro Tick mit der Deadline (System.nanoTime) aufgerufen, bis sie true zurückgibt.
+     */
+    public MinigameTransition step(String stage, Step step) {
+        stages.add(new Stage(stage, step, -1));
+        return this;
+    }
+
+    public void start() {
+        startTime = System.nanoTime();
+        ACTIVE.add(this);
+        LOGGER.info("🚦 Starting transition {} with {} stages", name, stages.size());
+    }
+
+    public static boolean isRunning(String name) {
+        for (MinigameTransition transition : ACTIVE) {
+            if (transition.name.equals(name)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Führt alle laufenden Übergänge fort. Wird am Ende jedes Server-Ticks aufgerufen.
+     */
+    public static void tickAll() {
+        if (ACTIVE.isEmpty()) return;
+        // Kopie, da Stufen neue Übergänge starten können
+        for (MinigameTransition transition : List.copyOf(ACTIVE)) {
+            if (transition.tick()) ACTIVE.remove(transition);
+        }
+    }
+
+    public static void clearAll() {
+        ACTIVE.clear();
+    }
+
+    private boolean tick() {
+        long deadline = System.nanoTime() + TICK_BUDGET_NANOS;
+        while (!stages.isEmpty()) {
+            Stage stage = stages.peek();
+            stage.ticks++;
+            long start = System.nanoTime();
+            boolean done;
+            try {
+                done = stage.step.step(deadline);
+                if (!done && stage.timeoutTicks >= 0 && stage.ticks >= stage.timeoutTicks) {
+                    LOGGER.warn("⚠️ Transition {} stage {} timed out after {} ticks", name, stage.name, stage.ticks);
+                    done = true;
+                }
+            } catch (Exception e) {
+                LOGGER.error("❌ Transition {} stage {} failed", name, stage.name, e);
+                done = true;
+            }
+            stage.workNanos += System.nanoTime() - start;
+            if (!done) return false;
+
+            stages.poll();
+            LOGGER.info("⏱️ Transition {} stage {}: {} ms over {} ticks", name, stage.name, String.format(Locale.ROOT, "%.2f", stage.workNanos / 1_000_000d), stage.ticks);
+            if (System.nanoTime() >= deadline) break;
+        }
+        if (!stages.isEmpty()) return false;
+        LOGGER.info("✅ Transition {} finished after {} ms", name, (System.nanoTime() - startTime) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Lässt die Chunks um die Spawn-Positionen im Hintergrund laden.
+     * Die Tickets laufen von selbst ab, falls der Übergang nicht stattfindet.
+     */
+    public static void preloadSpawnChunks(ServerLevel level, Collection<SpawnPosition> spawns) {
+        for (ChunkPos pos : getSpawnChunks(spawns)) {
+            level.getChunkSource().addTicketWithRadius(TicketType.PORTAL, pos, PRELOAD_RADIUS);
+        }
+    }
+
+    public static boolean areSpawnChunksLoaded(ServerLevel level, Collection<SpawnPosition> spawns) {
+        for (ChunkPos pos : getSpawnChunks(spawns)) {
+            if (!level.getChunkSource().hasChunk(pos.x, pos.z)) return false;
+        }
+        return true;
+    }
+
+    private static Set<ChunkPos> getSpawnChunks(Collection<SpawnPosition> spawns) {
+        Set<ChunkPos> chunks = new HashSet<>();
+        for (SpawnPosition spawn : spawns) {
+            chunks.add(new ChunkPos(Mth.floor(spawn.x()) >> 4, Mth.floor(spawn.z()) >> 4));
+        }
+        return chunks;
+    }
+
+    @FunctionalInterface
+    public interface Step {
+        boolean step(long deadline);
+    }
+
+    private static class Stage {
+        private final String name;
+        private final Step step;
+        private final int timeoutTicks;
+        private int ticks;
+        private long workNanos;
+
+        private Stage(String name, Step step, int timeoutTicks) {
+            this.name = name;
+            this.step = step;
+            this.timeoutTicks = timeoutTicks;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package wily.legacy.minigame;
 
 import com.mojang.logging.LogUtils;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
@@ -11,22 +12,43 @@ import org.slf4j.Logger;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 /**
  * Lädt Minigame-Welten aus Resources.
- * Die lobby.mcsave wird aus resources/data/legacy/minigame/ entpackt.
- * Die Welt ist schreibgeschützt und wird nach Spielende gelöscht.
+ * Die lobby.mcsave wird einmalig pro Inhalt (SHA-256) aus resources/data/legacy/minigame/ in einen
+ * Template-Cache im Spielverzeichnis entpackt. Für jedes Minigame wird die Welt parallel aus dem
+ * Template kopiert und nach Spielende asynchron gelöscht.
  */
 public class MinigameWorldLoader {
 
     private static final Logger LOGGER = LogUtils.getLogger();
     private static final String LOBBY_RESOURCE = "/data/legacy/minigame/lobby.mcsave";
     private static final String LOBBY_WORLD_NAME = "MinigameLobby_Temp";
+    private static final String TEMPLATE_CACHE_DIR = "legacy_minigame_templates";
+    private static final long CLEANUP_DELAY_MS = 2000;
+
+    private static String lobbyResourceHash = null;
+    private static CompletableFuture<Void> pendingCleanup = null;
+
+    /**
+     * Zeitpunkt (ms) an dem das Laden der Lobby gestartet wurde, -1 wenn keine Messung läuft
+     */
+    private static long lobbyLoadStartMillis = -1;
 
     private static Path currentLobbyPath = null;
     private static boolean isMinigameActive = false;
@@ -54,6 +76,13 @@ public class MinigameWorldLoader {
 
         // Flag setzen um Cleanup während des Ladens zu verhindern
         isLoadingMinigame = true;
+        lobbyLoadStartMillis = Util.getMillis();
+
+        // Ein noch ausstehender Cleanup darf die neue Lobby nicht löschen
+        if (pendingCleanup != null) {
+            pendingCleanup.cancel(false);
+            pendingCleanup = null;
+        }
 
         try {
             // Ermittle das saves-Verzeichnis korrekt
@@ -77,11 +106,14 @@ public class MinigameWorldLoader {
             // Jetzt erst setzen
             currentLobbyPath = lobbyPath;
 
-            // Lobby aus Resources entpacken
-            if (!extractLobbyFromResources(lobbyPath)) {
+            // Lobby aus dem Template-Cache erstellen (entpackt nur beim ersten Mal aus Resources)
+            long copyStart = Util.getMillis();
+            Path templatePath = getOrExtractLobbyTemplate(minecraft.gameDirectory.toPath());
+            if (templatePath == null || !copyTemplate(templatePath, lobbyPath)) {
                 LOGGER.error("❌ Failed to extract lobby from resources!");
                 return false;
             }
+            LOGGER.info("⏱️ Lobby world created from template in {} ms", Util.getMillis() - copyStart);
 
 
             // KEIN Schreibschutz setzen - Minecraft muss während des Spiels schreiben können
@@ -137,7 +169,7 @@ public class MinigameWorldLoader {
 
             try {
                 minecraft.doWorldLoad(levelAccess, packRepository, worldStem, false);
-                LOGGER.info("✅ Minigame world loading complete!");
+                LOGGER.info("✅ Minigame world loading complete! ({} ms)", Util.getMillis() - lobbyLoadStartMillis);
                 isLoadingMinigame = false; // Loading abgeschlossen
                 return true;
 
@@ -177,24 +209,26 @@ public class MinigameWorldLoader {
     }
 
     /**
-     * Plant Cleanup nach kurzer Verzögerung
+     * Plant Cleanup nach kurzer Verzögerung (bis der Server vollständig gestoppt ist)
      */
     private static void scheduleCleanup() {
-        new Thread(() -> {
-            try {
-                // Warte bis Server vollständig gestoppt
-                Thread.sleep(2000);
-                cleanupLobby();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }, "MinigameCleanup").start();
+        if (pendingCleanup != null) pendingCleanup.cancel(false);
+        pendingCleanup = CompletableFuture.runAsync(MinigameWorldLoader::cleanupLobby, CompletableFuture.delayedExecutor(CLEANUP_DELAY_MS, TimeUnit.MILLISECONDS, Util.ioPool()));
+    }
+
+    /**
+     * Wird aufgerufen sobald der Spieler in der Lobby ist und loggt die Zeit vom Start bis spielbar.
+     */
+    public static void markLobbyPlayable() {
+        if (lobbyLoadStartMillis < 0) return;
+        LOGGER.info("⏱️ Minigame lobby playable after {} ms", Util.getMillis() - lobbyLoadStartMillis);
+        lobbyLoadStartMillis = -1;
     }
 
     /**
      * Löscht die temporäre Lobby-Welt
      */
-    public static void cleanupLobby() {
+    public static synchronized void cleanupLobby() {
         if (currentLobbyPath == null) return;
 
         LOGGER.info("🗑️ Cleaning up minigame lobby...");
@@ -213,6 +247,102 @@ public class MinigameWorldLoader {
         currentLobbyPath = null;
     }
 
+    /**
+     * Gibt das entpackte Lobby-Template zurück und entpackt es, falls für den aktuellen Inhalt
+     * von lobby.mcsave noch kein Template existiert.
+     *
+     * @param gameDirectory Das Spielverzeichnis
+     * @return Pfad zum Template oder null wenn fehlgeschlagen
+     */
+    private static Path getOrExtractLobbyTemplate(Path gameDirectory) throws IOException {
+        String hash = getLobbyResourceHash();
+        if (hash == null) return null;
+
+        Path cacheDir = gameDirectory.resolve(TEMPLATE_CACHE_DIR);
+        Path templatePath = cacheDir.resolve("lobby_" + hash);
+        if (Files.isDirectory(templatePath)) {
+            LOGGER.info("📦 Using cached lobby template: {}", templatePath);
+            return templatePath;
+        }
+
+        // In ein temporäres Verzeichnis entpacken und erst danach umbenennen,
+        // damit ein abgebrochenes Entpacken kein unvollständiges Template hinterlässt
+        Files.createDirectories(cacheDir);
+        Path extractingPath = cacheDir.resolve("lobby_" + hash + ".tmp");
+        deleteDirectory(extractingPath);
+        long start = Util.getMillis();
+        if (!extractLobbyFromResources(extractingPath)) {
+            deleteDirectory(extractingPath);
+            return null;
+        }
+        Files.move(extractingPath, templatePath, StandardCopyOption.ATOMIC_MOVE);
+        LOGGER.info("⏱️ Lobby template extracted in {} ms", Util.getMillis() - start);
+
+        // Veraltete Templates (alter Inhalt) entfernen
+        try (var stream = Files.list(cacheDir)) {
+            for (Path old : stream.filter(p -> !p.equals(templatePath) && p.getFileName().toString().startsWith("lobby_")).toList()) {
+                deleteDirectory(old);
+            }
+        }
+        return templatePath;
+    }
+
+    /**
+     * Berechnet den SHA-256 Hash von lobby.mcsave (einmal pro Spielsitzung)
+     */
+    private static String getLobbyResourceHash() {
+        if (lobbyResourceHash != null) return lobbyResourceHash;
+
+        try (InputStream resourceStream = MinigameWorldLoader.class.getResourceAsStream(LOBBY_RESOURCE)) {
+            if (resourceStream == null) {
+                LOGGER.error("❌ Resource not found: {}", LOBBY_RESOURCE);
+                return null;
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (DigestInputStream digestStream = new DigestInputStream(resourceStream, digest)) {
+                digestStream.transferTo(OutputStream.nullOutputStream());
+            }
+            lobbyResourceHash = HexFormat.of().formatHex(digest.digest(), 0, 16);
+            return lobbyResourceHash;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.error("❌ Failed to hash lobby resource", e);
+            return null;
+        }
+    }
+
+    /**
+     * Kopiert das Template parallel in das Ziel-Verzeichnis.
+     * Hardlinks werden bewusst nicht verwendet: Region-Dateien werden vom Server direkt beschrieben
+     * und würden sonst das Template verändern.
+     */
+    private static boolean copyTemplate(Path templatePath, Path targetPath) {
+        try {
+            List<CompletableFuture<Void>> copies = new ArrayList<>();
+            try (var stream = Files.walk(templatePath)) {
+                for (Path source : stream.toList()) {
+                    Path target = targetPath.resolve(templatePath.relativize(source).toString());
+                    if (Files.isDirectory(source)) {
+                        Files.createDirectories(target);
+                        continue;
+                    }
+                    copies.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, Util.ioPool()));
+                }
+            }
+            CompletableFuture.allOf(copies.toArray(CompletableFuture[]::new)).join();
+            LOGGER.info("✅ Copied {} files from lobby template", copies.size());
+            return true;
+        } catch (Exception e) {
+            LOGGER.error("❌ Failed to copy lobby template", e);
+            return false;
+        }
+    }
+
     /**
      * Entpackt lobby.mcsave aus Resources in das Welten-Verzeichnis
      */
@@ -476,8 +606,11 @@ public class MinigameWorldLoader {
                 }
             }
 
-            // Extrahiere frische Region-Dateien aus Resources
-            if (!extractRegionFilesFromResources(currentLobbyPath)) {
+            // Kopiere frische Region-Dateien aus dem Template (Fallback: aus Resources entpacken)
+            Path templateRegionPath = lobbyResourceHash == null ? null : server.getServerDirectory().resolve(TEMPLATE_CACHE_DIR).resolve("lobby_" + lobbyResourceHash).resolve("region");
+            boolean copied = templateRegionPath != null && Files.isDirectory(templateRegionPath) && copyTemplate(templateRegionPath, regionPath);
+            if (!copied && templateRegionPath != null) LOGGER.warn("⚠️ Template region copy failed, extracting region files from resources");
+            if (!copied && !extractRegionFilesFromResources(currentLobbyPath)) {
                 LOGGER.error("❌ Failed to extract fresh region files");
                 isResettingLobby = false;
                 return false;
@@ -2,6 +2,7 @@ package wily.legacy. minigame;
 
 import com.mojang.serialization. Codec;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.Util;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -20,17 +21,25 @@ import wily.factoryapi.base.network.CommonConfigSyncPayload;
 import wily.factoryapi.base.network.CommonNetwork;
 import wily.legacy.Legacy4J;
 
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 // attached to dimensions
 public class MinigamesController {
+    // Auf dem Server-Thread erstellte Zustände, die beim Speichern im IO-Thread statt des Live-Zustands geschrieben werden
+    private static final ThreadLocal<Map<MinigamesController, CompoundTag>> SAVE_SNAPSHOT = new ThreadLocal<>();
     public static final Codec<MinigamesController> CODEC = CompoundTag.CODEC. xmap(a -> {
         MinigamesController minigamesController = new MinigamesController();
         minigamesController.readNbt(a);
         return minigamesController;
     }, a -> {
+        Map<MinigamesController, CompoundTag> snapshot = SAVE_SNAPSHOT.get();
+        if (snapshot != null && snapshot.containsKey(a)) return snapshot.get(a);
         CompoundTag compoundTag = new CompoundTag();
         a.writeNbt(compoundTag);
         return compoundTag;
@@ -48,6 +57,20 @@ public class MinigamesController {
     // Client-side flag indicating connection to a minigame server (set via sync from server)
     private static boolean clientConnectedToMinigameServer = false;
 
+    // Wird bei jedem Wechsel eines aktiven Minigames erhöht, damit Level ihre Chunk-Masken neu aufbauen
+    private static volatile int activeMinigameVersion = 0;
+
+    // Wird erhöht wenn die an Level gebundenen Controller ungültig werden (Server-Start/-Stop, Client-Verbindung, neue Configs)
+    private static volatile int levelControllerGeneration = 0;
+
+    // ===== DIRTY-HANDLING =====
+    // Speichern auf die Festplatte wird gebündelt und verzögert (5 Sekunden)
+    private static final int SAVE_DELAY_TICKS = 100;
+    private static final Set<MinigamesController> DIRTY_CONTROLLERS = new LinkedHashSet<>();
+    private static int pendingSaveTick = -1;
+    // Laufendes Speichern, damit Speichervorgänge nacheinander und nie parallel zum synchronen Speichern laufen
+    private static CompletableFuture<Void> pendingSave = CompletableFuture.completedFuture(null);
+
     /**
      * Initialisiert das MinigamesController System.
      * Wird EINMAL in Legacy4J.init() aufgerufen.
@@ -74,6 +97,7 @@ public class MinigamesController {
     public static void configureServerFile(MinecraftServer server) {
         STORAGE.withServerFile(server, "minigame_controller. json");
         STORAGE.load(); // Lade existierende Daten
+        invalidateLevelControllers();
         Legacy4J. LOGGER.info("✅ MinigamesController storage configured and loaded");
     }
 
@@ -81,9 +105,16 @@ public class MinigamesController {
      * Cleanup - wird beim Server-Stop aufgerufen
      */
     public static void cleanup() {
+        DIRTY_CONTROLLERS.clear();
+        MinigameAudience.clearAll();
+        MinigameTransition.clearAll();
+        pendingSaveTick = -1;
+        pendingSave.join();
         STORAGE.save();
         LEVEL_CONFIGS.clear();
         clientConnectedToMinigameServer = false;
+        activeMinigameChanged();
+        invalidateLevelControllers();
         Legacy4J.LOGGER.info("🔄 MinigamesController cleaned up");
     }
     
@@ -92,6 +123,7 @@ public class MinigamesController {
      * Wird aufgerufen wenn der Client Minigame-Configs vom Server empfängt.
      */
     public static void setClientConnectedToMinigameServer(boolean connected) {
+        if (clientConnectedToMinigameServer != connected) invalidateLevelControllers();
         clientConnectedToMinigameServer = connected;
         if (connected) {
             Legacy4J.LOGGER.info("🎮 Client marked as connected to minigame server");
@@ -104,6 +136,44 @@ public class MinigamesController {
     public static boolean isClientMarkedAsMinigameConnected() {
         return clientConnectedToMinigameServer;
     }
+
+    /**
+     * Version der aktiven Minigames aller Level.
+     * Ändert sich, sobald irgendein Level sein Minigame oder dessen Controller wechselt.
+     */
+    public static int getActiveMinigameVersion() {
+        return activeMinigameVersion;
+    }
+
+    private static void activeMinigameChanged() {
+        activeMinigameVersion++;
+    }
+
+    /**
+     * Verwirft alle an Level gebundenen Controller, sie werden beim nächsten Zugriff neu aufgelöst.
+     */
+    public static void invalidateLevelControllers() {
+        levelControllerGeneration++;
+    }
+
+    /**
+     * Löst die Bindung des Controllers von einem Level.
+     * Wird beim Entladen einer Dimension aufgerufen.
+     */
+    public static void detachFromLevel(Level level) {
+        if (level instanceof IMinigameLevel minigameLevel) {
+            minigameLevel.legacy$setMinigameController(null);
+        }
+    }
+
+    private static MinigamesController attachToLevel(Level level, MinigamesController controller) {
+        controller.level = level;
+        controller.generation = levelControllerGeneration;
+        if (level instanceof IMinigameLevel minigameLevel) {
+            minigameLevel.legacy$setMinigameController(controller);
+        }
+        return controller;
+    }
     
     /**
      * Initialisiert den Client-Config für ein Level.
@@ -147,6 +217,9 @@ public class MinigamesController {
     private AbstractMinigameController minigameController = Minigame.NONE.newController(this);
     private FactoryConfig<MinigamesController> config;
     private Level level;
+    private int generation = -1;
+    private CompoundTag lastSyncedState;
+    private final MinigameAudience audience = new MinigameAudience(this);
 
     public MinigamesController() {
 
@@ -171,6 +244,7 @@ public class MinigamesController {
                 if (this.minigameController != null) {
                     this.minigameController.controller = this;
                 }
+                activeMinigameChanged();
             }
             Legacy4J.LOGGER.debug("✅ Reusing existing config for level: {}", levelKey);
             return;
@@ -189,6 +263,7 @@ public class MinigamesController {
                         if (this.minigameController != null) {
                             this.minigameController.controller = this;
                         }
+                        activeMinigameChanged();
                         // Mark client as connected to minigame server when receiving sync
                         if (level.isClientSide()) {
                             setClientConnectedToMinigameServer(true);
@@ -200,11 +275,13 @@ public class MinigamesController {
                 STORAGE // Nutze den globalen Storage
         );
 
-        // Registriere im globalen Storage
+        // Registriere im globalen Storage (nicht während ein Speichern im IO-Thread läuft)
+        pendingSave.join();
         STORAGE.register(this.config);
 
         // Merke dir die Config mit dimension key
         LEVEL_CONFIGS.put(levelKey, this.config);
+        invalidateLevelControllers();
 
         Legacy4J.LOGGER.debug("✅ Config created for level: {}", levelKey);
     }
@@ -225,6 +302,7 @@ public class MinigamesController {
         CompoundTag compoundTag = tag.getCompound("minigameController").orElseThrow();
         minigameController = this.activeMinigame.newController(this);
         minigameController. readNbt(compoundTag);
+        activeMinigameChanged();
     }
 
     @Nullable
@@ -256,14 +334,22 @@ public class MinigamesController {
             return new MinigamesController();
         }
 
+        // Schneller Pfad: direkt am Level gebundener Controller
+        if (level instanceof IMinigameLevel minigameLevel) {
+            MinigamesController attached = minigameLevel.legacy$getMinigameController();
+            if (attached != null && attached.generation == levelControllerGeneration) {
+                attached.level = level;
+                return attached;
+            }
+        }
+
         String levelKey = "level_" + getLevelId(level);
         FactoryConfig<MinigamesController> config = LEVEL_CONFIGS.get(levelKey);
 
         if (config != null) {
             MinigamesController controller = config.get();
             if (controller != null) {
-                controller.level = level;
-                return controller;
+                return attachToLevel(level, controller);
             }
         }
 
@@ -280,7 +366,7 @@ public class MinigamesController {
             controller.initConfig(level);
         }
 
-        return controller;
+        return attachToLevel(level, controller);
     }
 
     /**
@@ -313,11 +399,61 @@ public class MinigamesController {
         }
 
         if (config != null) {
-            config.save(); // Speichert den globalen STORAGE
-            config.sync(); // Synchronisiert zu allen Clients
+            // Mehrere dirty()-Aufrufe pro Tick werden in flushDirty() zusammengefasst
+            DIRTY_CONTROLLERS.add(this);
+        }
+    }
 
-            Legacy4J.LOGGER.debug("💾 Saved and synced for level: {}", getLevelId(level));
+    /**
+     * Synchronisiert alle im aktuellen Tick geänderten Controller zu den Clients
+     * und plant das (verzögerte) Speichern des globalen STORAGE ein.
+     * Wird am Ende jedes Server-Ticks aufgerufen.
+     */
+    public static void flushDirty(MinecraftServer server) {
+        if (!DIRTY_CONTROLLERS.isEmpty()) {
+            for (MinigamesController controller : DIRTY_CONTROLLERS) {
+                controller.syncIfChanged();
+            }
+            DIRTY_CONTROLLERS.clear();
+            if (pendingSaveTick < 0) pendingSaveTick = server.getTickCount() + SAVE_DELAY_TICKS;
         }
+
+        if (pendingSaveTick >= 0 && server.getTickCount() >= pendingSaveTick) {
+            pendingSaveTick = -1;
+            // Zustände werden hier auf dem Server-Thread kopiert, geschrieben wird außerhalb des Server-Threads
+            Map<MinigamesController, CompoundTag> snapshot = new IdentityHashMap<>();
+            for (FactoryConfig<MinigamesController> levelConfig : LEVEL_CONFIGS.values()) {
+                MinigamesController controller = levelConfig.get();
+                if (controller == null) continue;
+                CompoundTag state = new CompoundTag();
+                controller.writeNbt(state);
+                snapshot.put(controller, state);
+            }
+            pendingSave = pendingSave.thenRunAsync(() -> {
+                SAVE_SNAPSHOT.set(snapshot);
+                try {
+                    STORAGE.save();
+                } finally {
+                    SAVE_SNAPSHOT.remove();
+                }
+            }, Util.ioPool()).exceptionally(e -> {
+                Legacy4J.LOGGER.error("❌ Failed to save minigame controller storage", e);
+                return null;
+            });
+        }
+    }
+
+    private void syncIfChanged() {
+        if (config == null) return;
+
+        CompoundTag state = new CompoundTag();
+        writeNbt(state);
+        // Unveränderte Zustände werden nicht erneut an alle Clients gesendet
+        if (Objects.equals(state, lastSyncedState)) return;
+        lastSyncedState = state;
+
+        config.sync(); // Synchronisiert zu allen Clients
+        Legacy4J.LOGGER.debug("💾 Synced for level: {}", level != null ? getLevelId(level) : "unknown");
     }
 
     /**
@@ -346,6 +482,10 @@ public class MinigamesController {
     public <T extends AbstractMinigameController<T>> T setActiveMinigame(Minigame<T> minigame) {
         this.activeMinigame = minigame;
         this.minigameController = minigame.newController(this);
+        activeMinigameChanged();
+        if (level instanceof IResettableLevel resettableLevel) {
+            resettableLevel.legacy$captureArenaSnapshot(minigameController.getActiveChunkAreas());
+        }
         dirty();
         return (T) minigameController;
     }
@@ -359,11 +499,14 @@ public class MinigamesController {
     }
 
     public ServerPlayer[] getPlayersFor(ServerLevel level) {
-        ArrayList<ServerPlayer> players = new ArrayList<>();
-        for (ServerPlayer player : level.getServer().getPlayerList().getPlayers()) {
-            if (player.level() == level) players.add(player);
-        }
-        return players.toArray(ServerPlayer[]::new);
+        return level.players().toArray(ServerPlayer[]::new);
+    }
+
+    /**
+     * Zielgruppe dieses Levels für gebündelte Nachrichten und Sounds.
+     */
+    public MinigameAudience getAudience() {
+        return audience;
     }
 
     public void playerLoadedIn(ServerPlayer player) {
@@ -391,7 +534,7 @@ public class MinigamesController {
     }
 
     public boolean hasPlayers() {
-        return getPlayersFor(getLevel()).length > 0;
+        return !getLevel().players().isEmpty();
     }
 
     public void playerReady(ServerPlayer player, boolean ready) {
@@ -1,5 +1,6 @@
 package wily.legacy.mixin.base;
 
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.animal.Animal;
@@ -19,6 +20,8 @@ import wily.legacy.network.ClientAnimalInLoveSyncPayload;
 public abstract class AnimalMixin extends AgeableMob {
     @Unique
     int lastInlove = 0;
+    @Unique
+    int lastAge = 0;
     @Shadow
     private int inLove;
 
@@ -31,13 +34,21 @@ public abstract class AnimalMixin extends AgeableMob {
 
     @Redirect(method = "aiStep", at = @At(value = "FIELD", target = "Lnet/minecraft/world/entity/animal/Animal;inLove:I", opcode = Opcodes.PUTFIELD))
     public void aiStep(Animal instance, int value) {
-        if (!level().isClientSide()) setInLoveTime(value);
+        if (!level().isClientSide() || value == inLove - 1) setInLoveTime(value);
     }
 
     @Inject(method = "aiStep", at = @At("HEAD"))
     public void aiStep(CallbackInfo ci) {
-        if (lastInlove != inLove) ClientAnimalInLoveSyncPayload.sync((Animal) (Object) this);
+        if (level().isClientSide()) return;
+        if (lastInlove != inLove && inLove != lastInlove - 1 || (lastAge == 0) != (age == 0)) ClientAnimalInLoveSyncPayload.sync((Animal) (Object) this);
         lastInlove = inLove;
+        lastAge = age;
+    }
+
+    @Override
+    public void startSeenByPlayer(ServerPlayer serverPlayer) {
+        super.startSeenByPlayer(serverPlayer);
+        if (inLove > 0 || age != 0) ClientAnimalInLoveSyncPayload.sync((Animal) (Object) this, serverPlayer);
     }
 
     @Inject(method = "canFallInLove", at = @At("HEAD"), cancellable = true)
@@ -15,14 +15,19 @@ import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import wily.legacy.entity.PrimedTntIndex;
 import wily.legacy.init.LegacyGameRules;
 
 @Mixin(ServerLevel.class)
-public abstract class LevelMixin {
+public abstract class LevelMixin implements PrimedTntIndex.Access {
+    @Unique
+    private final PrimedTntIndex primedTntIndex = new PrimedTntIndex();
+
     @Shadow
     public abstract GameRules getGameRules();
 
@@ -31,4 +36,9 @@ public abstract class LevelMixin {
         if (explosionInteraction != Level.ExplosionInteraction.MOB && !getGameRules().getBoolean(LegacyGameRules.getTntExplodes()))
             ci.cancel();
     }
+
+    @Override
+    public PrimedTntIndex getPrimedTntIndex() {
+        return primedTntIndex;
+    }
 }
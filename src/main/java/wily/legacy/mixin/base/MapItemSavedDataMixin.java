@@ -6,7 +6,6 @@ import net.minecraft.core.Holder;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
@@ -22,6 +21,7 @@ import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyArg;
@@ -33,9 +33,12 @@ import wily.factoryapi.FactoryAPIPlatform;
 import wily.legacy.Legacy4J;
 import wily.legacy.config.LegacyWorldOptions;
 import wily.legacy.init.LegacyGameRules;
+import wily.legacy.util.MapPlayerSnapshot;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 @Mixin(MapItemSavedData.class)
@@ -65,6 +68,10 @@ public abstract class MapItemSavedDataMixin {
     @Shadow
     @Final
     private Map<Player, MapItemSavedData.HoldingPlayer> carriedByPlayers;
+    @Unique
+    private Set<String> globalPlayers = new HashSet<>();
+    @Unique
+    private int globalPlayersTick = -1;
 
     @Inject(method = "createFresh", at = @At("HEAD"), cancellable = true)
     private static void createFresh(double d, double e, byte b, boolean bl, boolean bl2, ResourceKey<Level> resourceKey, CallbackInfoReturnable<MapItemSavedData> cir) {
@@ -85,22 +92,26 @@ public abstract class MapItemSavedDataMixin {
     }
 
     @ModifyExpressionValue(method = "tickCarriedBy", at = @At(value = "INVOKE", target = "Ljava/util/Map;containsKey(Ljava/lang/Object;)Z", ordinal = 0))
-    public boolean tickCarriedByAddGlobalPlayers(boolean original, Player player) {
+    public boolean tickCarriedByAddGlobalPlayers(boolean original, Player player, ItemStack itemStack) {
         MinecraftServer server = FactoryAPIPlatform.getEntityServer(player);
-        if (!server.getGameRules().getBoolean(LegacyGameRules.GLOBAL_MAP_PLAYER_ICON)) return original;
-        if (player instanceof ServerPlayer sp && server != null) {
-            server.getPlayerList().getPlayers().forEach(p -> {
-                if (!carriedByPlayers.containsKey(p)) {
-                    MapItemSavedData.HoldingPlayer hp = self().new HoldingPlayer(p);
-                    carriedBy.add(hp);
-                    carriedByPlayers.put(p, hp);
-                }
-                if (p.level().dimension() != dimension) {
-                    removeDecoration(sp.getGameProfile().name());
-                }
-            });
+        if (server == null || itemStack.isFramed() || globalPlayersTick == server.getTickCount() || !server.getGameRules().getBoolean(LegacyGameRules.GLOBAL_MAP_PLAYER_ICON)) return original;
+        globalPlayersTick = server.getTickCount();
+        Set<String> shown = new HashSet<>();
+        if (trackingPosition) {
+            for (MapPlayerSnapshot.Entry entry : MapPlayerSnapshot.get(server).getPlayers(dimension, centerX, centerZ, unlimitedTracking ? Integer.MAX_VALUE : 320 << scale)) {
+                if (carriedByPlayers.containsKey(entry.player())) continue;
+                addDecoration(MapDecorationTypes.PLAYER, entry.player().level(), entry.name(), entry.x(), entry.z(), entry.yRot(), entry.player().getName());
+                shown.add(entry.name());
+            }
+        }
+        for (String name : globalPlayers) {
+            if (!shown.contains(name)) removeDecoration(name);
+        }
+        globalPlayers = shown;
+        for (MapItemSavedData.HoldingPlayer holdingPlayer : carriedBy) {
+            if (holdingPlayer.player.level().dimension() != dimension) removeDecoration(holdingPlayer.player.getName().getString());
         }
-        return true;
+        return original;
     }
 
     @ModifyExpressionValue(method = "tickCarriedBy", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/player/Inventory;contains(Ljava/util/function/Predicate;)Z"))
@@ -2,6 +2,7 @@ package wily.legacy.mixin.base;
 
 import net.minecraft.advancements.CriteriaTriggers;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 //? if >1.20.2 {
 //?}
@@ -13,13 +14,16 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.storage.PlayerDataStorage;
 import net.minecraft.world.level.storage.ValueInput;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import wily.legacy.config.LegacyWorldOptions;
 import wily.legacy.entity.LegacyPlayer;
 import wily.legacy.entity.LegacyPlayerInfo;
+import wily.legacy.network.PlayerInfoTracker;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +31,8 @@ import java.util.Optional;
 
 @Mixin(PlayerList.class)
 public abstract class PlayerListMixin {
+    @Shadow
+    public abstract MinecraftServer getServer();
 
     @Inject(method = "respawn", at = @At("RETURN"))
     public void respawn(ServerPlayer serverPlayer, boolean bl, /*? if >=1.20.5 {*/Entity.RemovalReason removalReason,/*?}*/ CallbackInfoReturnable<ServerPlayer> cir) {
@@ -35,4 +41,14 @@ public abstract class PlayerListMixin {
         ((LegacyPlayer) cir.getReturnValue()).copyFrom(((LegacyPlayer) serverPlayer));
         CriteriaTriggers.CHANGED_DIMENSION.trigger(cir.getReturnValue(), serverPlayer.level().dimension(), cir.getReturnValue().level().dimension());
     }
+
+    @Inject(method = "tick", at = @At("TAIL"))
+    public void tick(CallbackInfo ci) {
+        PlayerInfoTracker.tick(getServer());
+    }
+
+    @Inject(method = "remove", at = @At("RETURN"))
+    public void remove(ServerPlayer serverPlayer, CallbackInfo ci) {
+        PlayerInfoTracker.remove(serverPlayer);
+    }
 }
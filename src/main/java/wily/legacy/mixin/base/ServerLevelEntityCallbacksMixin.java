@@ -0,0 +1,28 @@
+package wily.legacy.mixin.base;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.PrimedTnt;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import wily.legacy.entity.PrimedTntIndex;
+
+@Mixin(targets = "net.minecraft.server.level.ServerLevel$EntityCallbacks")
+public class ServerLevelEntityCallbacksMixin {
+    @Inject(method = "onTrackingStart(Lnet/minecraft/world/entity/Entity;)V", at = @At("RETURN"))
+    private void onTrackingStart(Entity entity, CallbackInfo ci) {
+        if (entity instanceof PrimedTnt tnt && tnt.level() instanceof ServerLevel level) PrimedTntIndex.of(level).add(tnt);
+    }
+
+    @Inject(method = "onTrackingEnd(Lnet/minecraft/world/entity/Entity;)V", at = @At("RETURN"))
+    private void onTrackingEnd(Entity entity, CallbackInfo ci) {
+        if (entity instanceof PrimedTnt tnt && tnt.level() instanceof ServerLevel level) PrimedTntIndex.of(level).remove(tnt);
+    }
+
+    @Inject(method = "onSectionChange(Lnet/minecraft/world/entity/Entity;)V", at = @At("RETURN"))
+    private void onSectionChange(Entity entity, CallbackInfo ci) {
+        if (entity instanceof PrimedTnt tnt && tnt.level() instanceof ServerLevel level) PrimedTntIndex.of(level).move(tnt);
+    }
+}
@@ -0,0 +1,18 @@
+package wily.legacy.mixin.base;
+
+import net.minecraft.stats.ServerStatsCounter;
+import net.minecraft.stats.Stat;
+import net.minecraft.world.entity.player.Player;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import wily.legacy.network.PlayerInfoTracker;
+
+@Mixin(ServerStatsCounter.class)
+public class ServerStatsCounterMixin {
+    @Inject(method = "setValue", at = @At("RETURN"))
+    public void setValue(Player player, Stat<?> stat, int i, CallbackInfo ci) {
+        PlayerInfoTracker.statChanged(player, stat);
+    }
+}
@@ -28,7 +28,6 @@ import wily.legacy.minigame.IMinecraftServer;
 import wily.legacy.network.TopMessage;
 
 import java.net.Proxy;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 
@@ -143,20 +142,18 @@ public abstract class ClientMinecraftServerMixin {
     @Inject(method = "saveEverything", at = @At("RETURN"))
     public void saveEverything(boolean bl, boolean bl2, boolean bl3, CallbackInfoReturnable<Boolean> cir) {
         if (!LegacySaveCache.isCurrentWorldSource(storageSource)) return;
-        CompletableFuture.runAsync(() -> {
+        Iterable<ServerLevel> levels = getAllLevels();
+        LegacySaveCache.saveLevelAsync(storageSource, executor, () -> {
             isSaving = true;
-            Iterable<ServerLevel> levels = getAllLevels();
             levels.forEach(l -> l.noSave = true);
-            LegacySaveCache.saveLevel(storageSource);
+        }, () -> {
             levels.forEach(l -> l.noSave = false);
             isSaving = false;
-        }, executor);
+        });
     }
 
     @Inject(method = "stopServer", at = @At("HEAD"))
     private void stopServerHead(CallbackInfo ci) {
-        while (isSaving) {
-            Thread.onSpinWait();
-        }
+        LegacySaveCache.awaitPendingSave();
     }
 }
@@ -8,6 +8,7 @@ import net.minecraft.client.multiplayer.*;
 import net.minecraft.client.sounds.MusicManager;
 import net.minecraft.network.Connection;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.common.ClientboundUpdateTagsPacket;
 import net.minecraft.network.protocol.game.*;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.inventory.AbstractContainerMenu;
@@ -22,6 +23,7 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import wily.legacy.Legacy4JClient;
 import wily.legacy.client.LegacyMusicFader;
 import wily.legacy.client.LegacyOptions;
+import wily.legacy.client.RecipeCatalog;
 import wily.legacy.client.screen.CreativeModeScreen;
 import wily.legacy.client.screen.LeaderboardsScreen;
 import wily.legacy.client.screen.LegacyLoadingScreen;
@@ -97,6 +99,16 @@ public abstract class ClientPacketListenerMixin extends ClientCommonPacketListen
         }
     }
 
+    @Inject(method = "handleUpdateRecipes", at = @At("RETURN"))
+    public void handleUpdateRecipes(ClientboundUpdateRecipesPacket clientboundUpdateRecipesPacket, CallbackInfo ci) {
+        RecipeCatalog.invalidate();
+    }
+
+    @Inject(method = "handleUpdateTags", at = @At("RETURN"))
+    public void handleUpdateTags(ClientboundUpdateTagsPacket clientboundUpdateTagsPacket, CallbackInfo ci) {
+        RecipeCatalog.invalidate();
+    }
+
     @Inject(method = "handleAwardStats", at = @At("RETURN"))
     public void handleAwardStats(ClientboundAwardStatsPacket clientboundAwardStatsPacket, CallbackInfo ci) {
         if (minecraft.screen instanceof LeaderboardsScreen s) s.onStatsUpdated();
@@ -6,6 +6,7 @@ import net.minecraft.network.chat.Component;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
+import wily.legacy.Legacy4JClient;
 import wily.legacy.client.controller.BindingState;
 import wily.legacy.client.controller.ControllerBinding;
 import wily.legacy.client.controller.LegacyKeyMapping;
@@ -37,6 +38,7 @@ public abstract class KeyMappingMixin implements LegacyKeyMapping {
 
     @Override
     public <T extends BindingState> void setBinding(ControllerBinding<T> binding) {
+        if (this.binding != binding) Legacy4JClient.controllerManager.invalidateKeyMappingDispatch();
         this.binding = binding;
     }
 
@@ -174,6 +174,11 @@ public abstract class MinecraftMixin {
         return false;
     }
 
+    @Inject(method = "runTick", at = @At("HEAD"))
+    public void runTick(boolean bl, CallbackInfo ci) {
+        Legacy4JClient.controllerManager.update();
+    }
+
     @Inject(method = "runTick", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/sounds/SoundManager;updateSource(Lnet/minecraft/client/Camera;)V"))
     public void runSoundTick(boolean bl, CallbackInfo ci) {
         float deltaTicks = FactoryAPIClient.getPartialTick();
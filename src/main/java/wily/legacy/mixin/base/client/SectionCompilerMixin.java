@@ -10,12 +10,26 @@ import net.minecraft.core.SectionPos;
 import net.minecraft.world.level.block.state.BlockState;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import wily.legacy.Legacy4JClient;
+import wily.legacy.client.LeavesOcclusionMask;
 
 @Mixin(SectionCompiler.class)
 public class SectionCompilerMixin {
+    @Inject(method = /*? if neoforge {*//*"compile(Lnet/minecraft/core/SectionPos;Lnet/minecraft/client/renderer/chunk/RenderSectionRegion;Lcom/mojang/blaze3d/vertex/VertexSorting;Lnet/minecraft/client/renderer/SectionBufferBuilderPack;Ljava/util/List;)Lnet/minecraft/client/renderer/chunk/SectionCompiler$Results;"*//*?} else {*/"compile"/*?}*/, at = @At("HEAD"))
+    public void compileStart(CallbackInfoReturnable<SectionCompiler.Results> cir, @Local(argsOnly = true) SectionPos sectionPos, @Local(argsOnly = true) RenderSectionRegion renderChunkRegion) {
+        LeavesOcclusionMask.begin(renderChunkRegion, sectionPos);
+    }
+
     @ModifyExpressionValue(method = /*? if neoforge {*//*"compile(Lnet/minecraft/core/SectionPos;Lnet/minecraft/client/renderer/chunk/RenderSectionRegion;Lcom/mojang/blaze3d/vertex/VertexSorting;Lnet/minecraft/client/renderer/SectionBufferBuilderPack;Ljava/util/List;)Lnet/minecraft/client/renderer/chunk/SectionCompiler$Results;"*//*?} else {*/"compile"/*?}*/, at = @At(value = "INVOKE", target = "Lnet/minecraft/client/renderer/block/BlockRenderDispatcher;getBlockModel(Lnet/minecraft/world/level/block/state/BlockState;)Lnet/minecraft/client/renderer/block/model/BlockStateModel;"))
     public BlockStateModel compile(BlockStateModel original, SectionPos sectionPos, RenderSectionRegion renderChunkRegion, @Local(ordinal = 2) BlockPos pos, @Local BlockState blockState) {
-        return Legacy4JClient.getFastLeavesModelReplacement(renderChunkRegion, pos, blockState, original);
+        LeavesOcclusionMask mask = LeavesOcclusionMask.current();
+        return mask == null ? Legacy4JClient.getFastLeavesModelReplacement(renderChunkRegion, pos, blockState, original) : Legacy4JClient.getFastLeavesModelReplacement(mask, pos, blockState, original);
+    }
+
+    @Inject(method = /*? if neoforge {*//*"compile(Lnet/minecraft/core/SectionPos;Lnet/minecraft/client/renderer/chunk/RenderSectionRegion;Lcom/mojang/blaze3d/vertex/VertexSorting;Lnet/minecraft/client/renderer/SectionBufferBuilderPack;Ljava/util/List;)Lnet/minecraft/client/renderer/chunk/SectionCompiler$Results;"*//*?} else {*/"compile"/*?}*/, at = @At("RETURN"))
+    public void compileEnd(CallbackInfoReturnable<SectionCompiler.Results> cir) {
+        LeavesOcclusionMask.end();
     }
 }
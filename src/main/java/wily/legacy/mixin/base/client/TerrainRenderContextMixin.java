@@ -17,12 +17,14 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import wily.legacy.Legacy4JClient;
+import wily.legacy.client.LeavesOcclusionMask;
 
 @Mixin(TerrainRenderContext.class)
 public class TerrainRenderContextMixin {
     @Inject(method = "bufferModel", at = @At("HEAD"))
     public void bufferModel(BlockStateModel model, BlockState blockState, BlockPos blockPos, CallbackInfo ci, @Local(argsOnly = true) LocalRef<BlockStateModel> bakedModelLocalRef) {
-        bakedModelLocalRef.set(Legacy4JClient.getFastLeavesModelReplacement(Minecraft.getInstance().level, blockPos, blockState, model));
+        LeavesOcclusionMask mask = LeavesOcclusionMask.current();
+        bakedModelLocalRef.set(mask == null ? Legacy4JClient.getFastLeavesModelReplacement(Minecraft.getInstance().level, blockPos, blockState, model) : Legacy4JClient.getFastLeavesModelReplacement(mask, blockPos, blockState, model));
     }
 }
 //?}
\ No newline at end of file
@@ -8,16 +8,13 @@ import net.minecraft.server.level.GenerationChunkHolder;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelHeightAccessor;
-import net.minecraft.world.phys.AABB;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
-import wily.legacy.minigame.AbstractMinigameController;
+import wily.legacy.minigame.ActiveChunkMask;
 import wily.legacy.minigame.IMinecraftServer;
-import wily.legacy.minigame.MinigamesController;
-
-import java.util.List;
+import wily.legacy.minigame.IResettableLevel;
 
 /**
  * Beschränkt aktive Chunks auf definierte Bereiche in Minigame-Welten.
@@ -43,42 +40,17 @@ public abstract class ChunkHolderMixin extends GenerationChunkHolder {
     )
     private FullChunkStatus legacy$limitActiveChunks(int level, Operation<FullChunkStatus> original) {
         // Prüfe ob es ein Minigame-Level ist
-        if (!(this.levelHeightAccessor instanceof Level gameLevel)) {
+        if (!(this.levelHeightAccessor instanceof Level gameLevel) || !(gameLevel instanceof IResettableLevel resettableLevel)) {
             return original.call(level);
         }
 
         // Prüfe ob es ein Minigame-Server ist
-        if (gameLevel.getServer() != null &&
-            gameLevel.getServer() instanceof IMinecraftServer minigameServer &&
-            minigameServer.isMinigameServer()) {
-
-            // Hole den aktiven Controller
-            MinigamesController controller = MinigamesController.getMinigameController(gameLevel);
-            if (controller != null && controller.isActive()) {
-                AbstractMinigameController<?> activeController = controller.getActiveController();
-                if (activeController != null) {
-                    List<AABB> activeAreas = activeController.getActiveChunkAreas();
-
-                    // Wenn keine Bereiche definiert, alle Chunks erlauben
-                    if (activeAreas.isEmpty()) {
-                        return original.call(level);
-                    }
-
-                    // Prüfe ob dieser Chunk in einem aktiven Bereich liegt
-                    int chunkX = this.pos.x;
-                    int chunkZ = this.pos.z;
-
-                    for (AABB area : activeAreas) {
-                        // +2 Chunk Buffer für Rendering/Simulation
-                        if (chunkX >= area.minX - 2 && chunkX <= area.maxX + 2 &&
-                            chunkZ >= area.minZ - 2 && chunkZ <= area.maxZ + 2) {
-                            return original.call(level);
-                        }
-                    }
-
-                    // Chunk liegt außerhalb aller aktiven Bereiche
-                    return FullChunkStatus.INACCESSIBLE;
-                }
+        if (gameLevel.getServer() instanceof IMinecraftServer minigameServer && minigameServer.isMinigameServer()) {
+            // Vorberechnete Maske des aktiven Controllers (inkl. Chunk Buffer), leer = alle Chunks erlaubt
+            ActiveChunkMask mask = resettableLevel.legacy$getActiveChunkMask();
+            if (!mask.contains(this.pos.x, this.pos.z)) {
+                // Chunk liegt außerhalb aller aktiven Bereiche
+                return FullChunkStatus.INACCESSIBLE;
             }
         }
 
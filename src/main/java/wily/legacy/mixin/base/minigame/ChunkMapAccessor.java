@@ -1,5 +1,6 @@
 package wily.legacy.mixin.base.minigame;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ChunkMap;
@@ -15,6 +16,9 @@ public interface ChunkMapAccessor {
     @Accessor
     Long2ObjectLinkedOpenHashMap<ChunkHolder> getVisibleChunkMap();
 
+    @Accessor
+    Int2ObjectMap<?> getEntityMap();
+
     @Accessor
     void setModified(boolean modified);
 
@@ -163,15 +163,17 @@ public class MinecraftServerMixin implements IMinecraftServer {
     @Inject(method = "tickServer", at = @At("TAIL"))
     public void legacy$tickMinigames(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
         MinecraftServer server = (MinecraftServer)(Object)this;
-        if (!(server instanceof IMinecraftServer minigameServer) || !minigameServer.isMinigameServer()) {
-            return;
-        }
-        for (ServerLevel level : server.getAllLevels()) {
-            MinigamesController controller = MinigamesController.getMinigameController(level);
-            if (controller.getActiveMinigame() != Minigame.NONE) {
-                controller.getActiveController().tick();
+        if (server instanceof IMinecraftServer minigameServer && minigameServer.isMinigameServer()) {
+            for (ServerLevel level : server.getAllLevels()) {
+                MinigamesController controller = MinigamesController.getMinigameController(level);
+                if (controller.getActiveMinigame() != Minigame.NONE) {
+                    controller.getActiveController().tick();
+                }
             }
         }
+        MinigameTransition.tickAll();
+        MinigameAudience.flushAll(server);
+        MinigamesController.flushDirty(server);
     }
 
     @Inject(method = "saveAllChunks", at = @At("HEAD"), cancellable = true)
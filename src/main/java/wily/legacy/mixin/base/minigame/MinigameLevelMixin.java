@@ -0,0 +1,29 @@
+package wily.legacy.mixin.base.minigame;
+
+import net.minecraft.world.level.Level;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import wily.legacy.minigame.IMinigameLevel;
+import wily.legacy.minigame.MinigamesController;
+
+/**
+ * Hängt den MinigamesController direkt an das Level
+ */
+@Mixin(Level.class)
+public abstract class MinigameLevelMixin implements IMinigameLevel {
+
+    @Unique
+    private MinigamesController legacy$minigameController;
+
+    @Override
+    @Unique
+    public MinigamesController legacy$getMinigameController() {
+        return legacy$minigameController;
+    }
+
+    @Override
+    @Unique
+    public void legacy$setMinigameController(MinigamesController controller) {
+        this.legacy$minigameController = controller;
+    }
+}
@@ -1,10 +1,13 @@
 package wily.legacy.mixin.base.minigame;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.ProgressListener;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.AABB;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.asm.mixin.Final;
@@ -14,6 +17,8 @@ import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import wily.legacy.minigame.ActiveChunkMask;
+import wily.legacy.minigame.ArenaSnapshot;
 import wily.legacy.minigame.IMinecraftServer;
 import wily.legacy.minigame.IResettableLevel;
 import wily.legacy.minigame.MinigamesController;
@@ -34,6 +39,15 @@ public abstract class ServerLevelMixin implements IResettableLevel {
     @Final
     private MinecraftServer server;
 
+    @Unique
+    private ActiveChunkMask legacy$activeChunkMask = ActiveChunkMask.ALL;
+
+    @Unique
+    private int legacy$activeChunkMaskVersion = -1;
+
+    @Unique
+    private ArenaSnapshot legacy$arenaSnapshot;
+
     /**
      * Verhindert das Speichern von Levels auf Minigame-Servern
      */
@@ -70,6 +84,16 @@ public abstract class ServerLevelMixin implements IResettableLevel {
         }
     }
 
+    /**
+     * Protokolliert geänderte Blöcke für den Arena-Snapshot
+     */
+    @Inject(method = "onBlockStateChange", at = @At("HEAD"))
+    private void onBlockStateChange(BlockPos pos, BlockState oldState, BlockState newState, CallbackInfo ci) {
+        if (legacy$arenaSnapshot != null) {
+            legacy$arenaSnapshot.markDirty(pos);
+        }
+    }
+
     // ==================== IResettableLevel Implementation ====================
 
     @Override
@@ -148,6 +172,17 @@ public abstract class ServerLevelMixin implements IResettableLevel {
     @Unique
     public void legacy$reset() {
         ServerLevel level = (ServerLevel)(Object)this;
+        if (legacy$arenaSnapshot != null) {
+            // Nur geänderte Blöcke im RAM zurücksetzen, kein Neuladen von der Festplatte
+            LOGGER.info("🔄 Restoring arena snapshot for level: {}", level.dimension().location());
+            try {
+                legacy$arenaSnapshot.restore(level);
+                return;
+            } catch (Exception e) {
+                LOGGER.error("❌ Failed to restore arena snapshot, falling back to chunk reload", e);
+                legacy$arenaSnapshot = null;
+            }
+        }
         LOGGER.info("🔄 Resetting chunk cache for level: {}", level.dimension().location());
         try {
             ServerChunkCache chunkSource = level.getChunkSource();
@@ -166,4 +201,40 @@ public abstract class ServerLevelMixin implements IResettableLevel {
             LOGGER.error("❌ Failed to reset chunk cache", e);
         }
     }
+
+    @Override
+    @Unique
+    public boolean legacy$reset(long deadline) {
+        if (legacy$arenaSnapshot == null) {
+            legacy$reset();
+            return true;
+        }
+        try {
+            return legacy$arenaSnapshot.restore((ServerLevel)(Object)this, deadline);
+        } catch (Exception e) {
+            LOGGER.error("❌ Failed to restore arena snapshot, falling back to chunk reload", e);
+            legacy$arenaSnapshot = null;
+            legacy$reset();
+            return true;
+        }
+    }
+
+    @Override
+    @Unique
+    public void legacy$captureArenaSnapshot(List<AABB> areas) {
+        if (legacy$arenaSnapshot != null || areas.isEmpty()) return;
+        legacy$arenaSnapshot = ArenaSnapshot.capture((ServerLevel)(Object)this, areas);
+    }
+
+    @Override
+    @Unique
+    public ActiveChunkMask legacy$getActiveChunkMask() {
+        int version = MinigamesController.getActiveMinigameVersion();
+        if (legacy$activeChunkMaskVersion != version) {
+            MinigamesController controller = MinigamesController.getMinigameController((ServerLevel)(Object)this);
+            legacy$activeChunkMask = controller.isActive() ? ActiveChunkMask.of(controller.getActiveController()) : ActiveChunkMask.ALL;
+            legacy$activeChunkMaskVersion = version;
+        }
+        return legacy$activeChunkMask;
+    }
 }
@@ -2,16 +2,18 @@ package wily.legacy.network;
 
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerPlayerConnection;
 import net.minecraft.world.entity.animal.Animal;
-import net.minecraft.world.entity.player.Player;
-import wily.factoryapi.FactoryAPI;
 import wily.factoryapi.base.network.CommonNetwork;
 import wily.legacy.Legacy4J;
-
-import java.util.function.Supplier;
+import wily.legacy.mixin.base.minigame.ChunkMapAccessor;
+import wily.legacy.mixin.base.TrackedEntityAccessor;
 
 public record ClientAnimalInLoveSyncPayload(int entityID, int inLove, int age) implements CommonNetwork.Payload {
     public static final CommonNetwork.Identifier<ClientAnimalInLoveSyncPayload> ID = CommonNetwork.Identifier.create(Legacy4J.createModLocation("client_in_love"), ClientAnimalInLoveSyncPayload::new);
+    private static int countedTick;
+    private static int sentThisTick;
+    private static int sentLastTick;
 
     public ClientAnimalInLoveSyncPayload(CommonNetwork.PlayBuf buf) {
         this(buf.get().readVarInt(), buf.get().readVarInt(), buf.get().readVarInt());
@@ -22,15 +24,33 @@ public record ClientAnimalInLoveSyncPayload(int entityID, int inLove, int age) i
     }
 
     public static void sync(Animal entity) {
-        if (entity.level() instanceof ServerLevel l) {
+        if (entity.level() instanceof ServerLevel l && ((ChunkMapAccessor) l.getChunkSource().chunkMap).getEntityMap().get(entity.getId()) instanceof TrackedEntityAccessor tracked) {
             ClientAnimalInLoveSyncPayload packet = null;
-            for (ServerPlayer player : l.getServer().getPlayerList().getPlayers()) {
-                if (player.level() == entity.level() && player.distanceTo(entity) < l.getServer().getPlayerList().getViewDistance() * 16)
-                    CommonNetwork.sendToPlayer(player, packet == null ? (packet = ClientAnimalInLoveSyncPayload.of(entity)) : packet);
+            for (ServerPlayerConnection connection : tracked.getSeenBy()) {
+                CommonNetwork.sendToPlayer(connection.getPlayer(), packet == null ? (packet = ClientAnimalInLoveSyncPayload.of(entity)) : packet);
+                countSent(l.getServer().getTickCount());
             }
         }
     }
 
+    public static void sync(Animal entity, ServerPlayer player) {
+        CommonNetwork.sendToPlayer(player, ClientAnimalInLoveSyncPayload.of(entity));
+        countSent(player.level().getServer().getTickCount());
+    }
+
+    private static void countSent(int tick) {
+        if (tick != countedTick) {
+            sentLastTick = tick == countedTick + 1 ? sentThisTick : 0;
+            sentThisTick = 0;
+            countedTick = tick;
+        }
+        sentThisTick++;
+    }
+
+    public static int getSentLastTick() {
+        return sentLastTick;
+    }
+
     @Override
     public void encode(CommonNetwork.PlayBuf buf) {
         buf.get().writeVarInt(entityID());
@@ -0,0 +1,85 @@
+package wily.legacy.network;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import wily.factoryapi.base.network.CommonNetwork;
+import wily.legacy.Legacy4J;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record ClientExplosionDebrisPayload(Vec3 center, float radius, long seed, int chance, boolean poof, List<BlockPos> blocks) implements CommonNetwork.Payload {
+    public static final CommonNetwork.Identifier<ClientExplosionDebrisPayload> ID = CommonNetwork.Identifier.create(Legacy4J.createModLocation("client_explosion_debris"), ClientExplosionDebrisPayload::new);
+
+    public ClientExplosionDebrisPayload(CommonNetwork.PlayBuf buf) {
+        this(buf.get().readVec3(), buf.get().readFloat(), buf.get().readLong(), buf.get().readVarInt(), buf.get().readBoolean(), readBlocks(buf));
+    }
+
+    private static List<BlockPos> readBlocks(CommonNetwork.PlayBuf buf) {
+        int size = buf.get().readVarInt();
+        List<BlockPos> blocks = new ArrayList<>(size);
+        if (size == 0) return blocks;
+        BlockPos origin = buf.get().readBlockPos();
+        for (int i = 0; i < size; i++) {
+            blocks.add(origin.offset(buf.get().readVarInt(), buf.get().readVarInt(), buf.get().readVarInt()));
+        }
+        return blocks;
+    }
+
+    @Override
+    public void encode(CommonNetwork.PlayBuf buf) {
+        buf.get().writeVec3(center);
+        buf.get().writeFloat(radius);
+        buf.get().writeLong(seed);
+        buf.get().writeVarInt(chance);
+        buf.get().writeBoolean(poof);
+        buf.get().writeVarInt(blocks.size());
+        if (blocks.isEmpty()) return;
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int minZ = Integer.MAX_VALUE;
+        for (BlockPos pos : blocks) {
+            minX = Math.min(minX, pos.getX());
+            minY = Math.min(minY, pos.getY());
+            minZ = Math.min(minZ, pos.getZ());
+        }
+        buf.get().writeBlockPos(new BlockPos(minX, minY, minZ));
+        for (BlockPos pos : blocks) {
+            buf.get().writeVarInt(pos.getX() - minX);
+            buf.get().writeVarInt(pos.getY() - minY);
+            buf.get().writeVarInt(pos.getZ() - minZ);
+        }
+    }
+
+    @Override
+    public void apply(Context context) {
+        context.executor().execute(() -> {
+            Level level = context.player().level();
+            RandomSource random = RandomSource.create(seed);
+            for (BlockPos blockPos : blocks) {
+                if (random.nextInt(chance) != 0) continue;
+                double x = blockPos.getX() + random.nextFloat();
+                double y = blockPos.getY() + random.nextFloat();
+                double z = blockPos.getZ() + random.nextFloat();
+                double dx = x - center.x;
+                double dy = y - center.y;
+                double dz = z - center.z;
+                double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+                double speed = 0.5D / (distance / radius + 0.1D) * (random.nextFloat() * random.nextFloat() + 0.3F) / distance;
+                dx *= speed;
+                dy *= speed;
+                dz *= speed;
+                if (poof) level.addParticle(ParticleTypes.POOF, (x + center.x) / 2.0D, (y + center.y) / 2.0D, (z + center.z) / 2.0D, dx, dy, dz);
+                level.addParticle(ParticleTypes.SMOKE, x, y, z, dx, dy, dz);
+            }
+        });
+    }
+
+    @Override
+    public CommonNetwork.Identifier<? extends CommonNetwork.Payload> identifier() {
+        return ID;
+    }
+}
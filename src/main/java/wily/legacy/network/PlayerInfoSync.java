@@ -87,8 +87,10 @@ public record PlayerInfoSync(Sync sync, UUID player) implements CommonNetwork.Pa
             ServerPlayer affectPlayer;
             if (sp.getUUID().equals(player)) {
                 switch (sync) {
-                    case ASK_ALL ->
-                            CommonNetwork.sendToPlayer(sp, All.fromPlayerList(FactoryAPIPlatform.getEntityServer(sp)));
+                    case ASK_ALL -> {
+                        CommonNetwork.sendToPlayer(sp, All.fromPlayerList(FactoryAPIPlatform.getEntityServer(sp)));
+                        PlayerInfoTracker.sentAll(sp, FactoryAPIPlatform.getEntityServer(sp));
+                    }
                     case CLASSIC_CRAFTING, LEGACY_CRAFTING ->
                             ((LegacyPlayer) sp).setCrafting(sync == Sync.CLASSIC_CRAFTING);
                     case CLASSIC_TRADING, LEGACY_TRADING ->
@@ -187,4 +189,30 @@ public record PlayerInfoSync(Sync sync, UUID player) implements CommonNetwork.Pa
             });
         }
     }
+
+    public record Delta(Map<UUID, LegacyPlayerInfo> players) implements CommonNetwork.Payload {
+        public static final CommonNetwork.Identifier<Delta> ID_S2C = CommonNetwork.Identifier.create(Legacy4J.createModLocation("player_info_sync_delta_s2c"), Delta::new);
+
+        public Delta(CommonNetwork.PlayBuf buf) {
+            this(buf.get().readMap(HashMap::new, b -> b.readUUID(), b -> LegacyPlayerInfo.decode(buf)));
+        }
+
+        @Override
+        public void encode(CommonNetwork.PlayBuf buf) {
+            buf.get().writeMap(players, (b, u) -> b.writeUUID(u), (b, info) -> LegacyPlayerInfo.encode(buf, info));
+        }
+
+        @Override
+        public void apply(Context context) {
+            context.executor().execute(() -> {
+                if (context.isClient() && Legacy4JClient.hasModOnServer())
+                    Legacy4JClient.updateLegacyPlayerInfos(players, true);
+            });
+        }
+
+        @Override
+        public CommonNetwork.Identifier<? extends CommonNetwork.Payload> identifier() {
+            return ID_S2C;
+        }
+    }
 }
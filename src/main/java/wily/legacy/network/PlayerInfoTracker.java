@@ -0,0 +1,91 @@
+package wily.legacy.network;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.stats.Stat;
+import net.minecraft.world.entity.player.Player;
+import wily.factoryapi.base.network.CommonNetwork;
+import wily.legacy.entity.LegacyPlayerInfo;
+
+import java.util.*;
+
+public class PlayerInfoTracker {
+    public static final int FLUSH_INTERVAL = 20;
+    private static final Map<UUID, Subject> SUBJECTS = new HashMap<>();
+    private static final Map<UUID, Object2IntMap<UUID>> SENT_VERSIONS = new HashMap<>();
+
+    public static void statChanged(Player player, Stat<?> stat) {
+        Subject subject = SUBJECTS.computeIfAbsent(player.getUUID(), u -> new Subject());
+        subject.stats.put(stat, ++subject.version);
+    }
+
+    public static void sentAll(ServerPlayer recipient, MinecraftServer server) {
+        Object2IntMap<UUID> sent = SENT_VERSIONS.computeIfAbsent(recipient.getUUID(), u -> new Object2IntOpenHashMap<>());
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            sent.put(player.getUUID(), getSubject(player).version);
+        }
+    }
+
+    public static void remove(ServerPlayer player) {
+        SUBJECTS.remove(player.getUUID());
+        SENT_VERSIONS.remove(player.getUUID());
+        SENT_VERSIONS.values().forEach(sent -> sent.removeInt(player.getUUID()));
+    }
+
+    public static void tick(MinecraftServer server) {
+        if (server.getTickCount() % FLUSH_INTERVAL != 0) return;
+        List<ServerPlayer> players = server.getPlayerList().getPlayers();
+        players.forEach(PlayerInfoTracker::getSubject);
+        SUBJECTS.keySet().removeIf(uuid -> server.getPlayerList().getPlayer(uuid) == null);
+        SENT_VERSIONS.keySet().removeIf(uuid -> server.getPlayerList().getPlayer(uuid) == null);
+
+        Map<UUID, Int2ObjectMap<LegacyPlayerInfo>> deltas = new HashMap<>();
+        for (ServerPlayer recipient : players) {
+            Object2IntMap<UUID> sent = SENT_VERSIONS.get(recipient.getUUID());
+            if (sent == null) continue;
+            Map<UUID, LegacyPlayerInfo> changes = null;
+            for (ServerPlayer player : players) {
+                Subject subject = SUBJECTS.get(player.getUUID());
+                int sentVersion = sent.getInt(player.getUUID());
+                if (subject.version == sentVersion) continue;
+                if (changes == null) changes = new HashMap<>();
+                changes.put(player.getUUID(), deltas.computeIfAbsent(player.getUUID(), u -> new Int2ObjectOpenHashMap<>()).computeIfAbsent(sentVersion, v -> subject.createDelta((LegacyPlayerInfo) player, v)));
+                sent.put(player.getUUID(), subject.version);
+            }
+            if (changes != null) CommonNetwork.sendToPlayer(recipient, new PlayerInfoSync.Delta(changes));
+        }
+    }
+
+    private static Subject getSubject(ServerPlayer player) {
+        Subject subject = SUBJECTS.computeIfAbsent(player.getUUID(), u -> new Subject());
+        LegacyPlayerInfo info = (LegacyPlayerInfo) player;
+        long fields = ((long) info.getIdentifierIndex() << 3) | (info.isVisible() ? 4 : 0) | (info.isExhaustionDisabled() ? 2 : 0) | (info.mayFlySurvival() ? 1 : 0);
+        if (subject.fields != fields) {
+            subject.fields = fields;
+            subject.version++;
+        }
+        return subject;
+    }
+
+    private static class Subject {
+        private final Object2IntMap<Stat<?>> stats = new Object2IntOpenHashMap<>();
+        private long fields = Long.MIN_VALUE;
+        private int version;
+
+        private LegacyPlayerInfo createDelta(LegacyPlayerInfo info, int sentVersion) {
+            Object2IntMap<Stat<?>> current = info.getStatsMap();
+            Object2IntMap<Stat<?>> changed = new Object2IntOpenHashMap<>();
+            if (sentVersion == 0) changed.putAll(current);
+            else {
+                for (Object2IntMap.Entry<Stat<?>> entry : stats.object2IntEntrySet()) {
+                    if (entry.getIntValue() > sentVersion) changed.put(entry.getKey(), current.getInt(entry.getKey()));
+                }
+            }
+            return new LegacyPlayerInfo.Instance(info.getIdentifierIndex(), info.isVisible(), info.isExhaustionDisabled(), info.mayFlySurvival(), changed);
+        }
+    }
+}
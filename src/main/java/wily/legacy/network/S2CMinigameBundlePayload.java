@@ -0,0 +1,45 @@
+package wily.legacy.network;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.ComponentSerialization;
+import wily.factoryapi.base.network.CommonNetwork;
+import wily.legacy.Legacy4J;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Server-to-Client Payload, das alle Minigame-Nachrichten und Sounds eines Server-Ticks für einen Spieler bündelt.
+ */
+public record S2CMinigameBundlePayload(List<Component> systemMessages, Optional<Component> topMessage, List<S2CPlaySoundPayload> sounds) implements CommonNetwork.Payload {
+
+    public static final CommonNetwork.Identifier<S2CMinigameBundlePayload> ID =
+        CommonNetwork.Identifier.create(Legacy4J.createModLocation("minigame_bundle_s2c"), S2CMinigameBundlePayload::new);
+
+    public S2CMinigameBundlePayload(CommonNetwork.PlayBuf buf) {
+        this(buf.get().readCollection(ArrayList::new, b -> ComponentSerialization.TRUSTED_STREAM_CODEC.decode(buf.get())), buf.get().readOptional(b -> ComponentSerialization.TRUSTED_STREAM_CODEC.decode(buf.get())), buf.get().readCollection(ArrayList::new, b -> new S2CPlaySoundPayload(buf)));
+    }
+
+    @Override
+    public void encode(CommonNetwork.PlayBuf buf) {
+        buf.get().writeCollection(systemMessages, (b, message) -> ComponentSerialization.TRUSTED_STREAM_CODEC.encode(buf.get(), message));
+        buf.get().writeOptional(topMessage, (b, message) -> ComponentSerialization.TRUSTED_STREAM_CODEC.encode(buf.get(), message));
+        buf.get().writeCollection(sounds, (b, sound) -> sound.encode(buf));
+    }
+
+    @Override
+    public void apply(Context context) {
+        // Wird auf dem Client ausgeführt, in der gleichen Reihenfolge wie die früheren Einzel-Pakete
+        context.executor().execute(() -> {
+            systemMessages.forEach(message -> context.player().displayClientMessage(message, false));
+            topMessage.ifPresent(message -> TopMessage.setSmall(new TopMessage(message, 0xffffffff, 40, true, true, false)));
+            sounds.forEach(sound -> sound.apply(context));
+        });
+    }
+
+    @Override
+    public CommonNetwork.Identifier<? extends CommonNetwork.Payload> identifier() {
+        return ID;
+    }
+}
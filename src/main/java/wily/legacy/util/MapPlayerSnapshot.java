@@ -0,0 +1,46 @@
+package wily.legacy.util;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+
+import java.util.*;
+
+public class MapPlayerSnapshot {
+    private static MapPlayerSnapshot current;
+    private final MinecraftServer server;
+    private final int tick;
+    private final Map<ResourceKey<Level>, List<Entry>> players = new HashMap<>();
+
+    private MapPlayerSnapshot(MinecraftServer server) {
+        this.server = server;
+        this.tick = server.getTickCount();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            if (player.isRemoved()) continue;
+            players.computeIfAbsent(player.level().dimension(), k -> new ArrayList<>()).add(new Entry(player, player.getName().getString(), player.getX(), player.getZ(), player.getYRot()));
+        }
+    }
+
+    public static MapPlayerSnapshot get(MinecraftServer server) {
+        if (current == null || current.server != server || current.tick != server.getTickCount()) current = new MapPlayerSnapshot(server);
+        return current;
+    }
+
+    public List<Entry> getPlayers(ResourceKey<Level> dimension) {
+        return players.getOrDefault(dimension, Collections.emptyList());
+    }
+
+    public List<Entry> getPlayers(ResourceKey<Level> dimension, int centerX, int centerZ, int range) {
+        List<Entry> inDimension = getPlayers(dimension);
+        if (inDimension.isEmpty()) return inDimension;
+        List<Entry> inRange = new ArrayList<>();
+        for (Entry entry : inDimension) {
+            if (Math.abs(entry.x() - centerX) < range && Math.abs(entry.z() - centerZ) < range) inRange.add(entry);
+        }
+        return inRange;
+    }
+
+    public record Entry(ServerPlayer player, String name, double x, double z, float yRot) {
+    }
+}